@@ -0,0 +1,119 @@
+package org.junit.contrib.theories.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.contrib.theories.DataPoints;
+import org.junit.contrib.theories.FromDataPoints;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.notification.RunNotifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Runs a whole theory through the {@link Theories} runner over a grid of arities and data point cardinalities,
+ * from one combination up to {@code cardinality ^ arity}. Each theory does nothing, so the score is the cost of
+ * enumerating, assigning and reporting its combinations.</p>
+ *
+ * <p>Each cardinality has its own final data points and its own theory, and the runner is filtered down to the
+ * theory of the cardinality being measured, so no trial changes the data points another one reads.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumerationBenchmark {
+    private static final int[] TWO = upTo(2);
+    private static final int[] ELEVEN = upTo(11);
+    private static final int[] FIFTY = upTo(50);
+
+    private static int[] upTo(int cardinality) {
+        int[] ints = new int[cardinality];
+        for (int i = 0; i < cardinality; i++) {
+            ints[i] = i;
+        }
+        return ints;
+    }
+
+    public static class OneParameter {
+        @DataPoints("2") public static final int[] TWO = EnumerationBenchmark.TWO;
+        @DataPoints("11") public static final int[] ELEVEN = EnumerationBenchmark.ELEVEN;
+        @DataPoints("50") public static final int[] FIFTY = EnumerationBenchmark.FIFTY;
+
+        @Theory public void theory2(@FromDataPoints("2") int x) {
+        }
+
+        @Theory public void theory11(@FromDataPoints("11") int x) {
+        }
+
+        @Theory public void theory50(@FromDataPoints("50") int x) {
+        }
+    }
+
+    public static class TwoParameters {
+        @DataPoints("2") public static final int[] TWO = EnumerationBenchmark.TWO;
+        @DataPoints("11") public static final int[] ELEVEN = EnumerationBenchmark.ELEVEN;
+        @DataPoints("50") public static final int[] FIFTY = EnumerationBenchmark.FIFTY;
+
+        @Theory public void theory2(@FromDataPoints("2") int x, @FromDataPoints("2") int y) {
+        }
+
+        @Theory public void theory11(@FromDataPoints("11") int x, @FromDataPoints("11") int y) {
+        }
+
+        @Theory public void theory50(@FromDataPoints("50") int x, @FromDataPoints("50") int y) {
+        }
+    }
+
+    public static class ThreeParameters {
+        @DataPoints("2") public static final int[] TWO = EnumerationBenchmark.TWO;
+        @DataPoints("11") public static final int[] ELEVEN = EnumerationBenchmark.ELEVEN;
+        @DataPoints("50") public static final int[] FIFTY = EnumerationBenchmark.FIFTY;
+
+        @Theory public void theory2(@FromDataPoints("2") int x, @FromDataPoints("2") int y,
+                @FromDataPoints("2") int z) {
+        }
+
+        @Theory public void theory11(@FromDataPoints("11") int x, @FromDataPoints("11") int y,
+                @FromDataPoints("11") int z) {
+        }
+
+        @Theory public void theory50(@FromDataPoints("50") int x, @FromDataPoints("50") int y,
+                @FromDataPoints("50") int z) {
+        }
+    }
+
+    private static final Class<?>[] BY_ARITY = { OneParameter.class, TwoParameters.class, ThreeParameters.class };
+
+    @Param({ "1", "2", "3" }) public int arity;
+    @Param({ "2", "11", "50" }) public int cardinality;
+
+    private Theories fRunner;
+
+    @Setup(Level.Trial) public void setUp() throws Exception {
+        Class<?> fixture = BY_ARITY[arity - 1];
+        fRunner = new Theories(fixture);
+        fRunner.filter(Filter.matchMethodDescription(
+                Description.createTestDescription(fixture, "theory" + cardinality)));
+    }
+
+    @Benchmark public RunNotifier enumerateAllCombinations() {
+        RunNotifier notifier = new RunNotifier();
+        fRunner.run(notifier);
+        return notifier;
+    }
+}
@@ -0,0 +1,82 @@
+package org.junit.contrib.theories.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.contrib.theories.DataPoints;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.contrib.theories.internal.TheoryInvoker;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Puts the cost of running one combination through the {@link Theories} runner next to the cost of invoking the
+ * theory method alone, through a {@link TheoryInvoker} and through plain reflection.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvocationBenchmark {
+    private static final int COMBINATIONS = 1000;
+
+    public static class ManyValues {
+        @DataPoints public static final Integer[] ints = new Integer[COMBINATIONS];
+
+        static {
+            for (int i = 0; i < COMBINATIONS; i++) {
+                ints[i] = i;
+            }
+        }
+
+        @Theory public void theory(Integer x) {
+        }
+    }
+
+    private Theories fRunner;
+    private TheoryInvoker fInvoker;
+    private Method fMethod;
+    private Object fTarget;
+    private Object fArgument;
+
+    @Setup public void setUp() throws Exception {
+        fRunner = new Theories(ManyValues.class);
+        fMethod = ManyValues.class.getMethod("theory", Integer.class);
+        fInvoker = TheoryInvoker.forTheory(new FrameworkMethod(fMethod), new TestClass(ManyValues.class));
+        fTarget = new ManyValues();
+        fArgument = 7;
+    }
+
+    @Benchmark @OperationsPerInvocation(COMBINATIONS) public RunNotifier perCombinationThroughRunner() {
+        RunNotifier notifier = new RunNotifier();
+        fRunner.run(notifier);
+        return notifier;
+    }
+
+    @Benchmark public Object theoryInvoker() throws Throwable {
+        return fInvoker.invoke(fTarget, fArgument);
+    }
+
+    @Benchmark public Object reflection() throws Exception {
+        return fMethod.invoke(fTarget, fArgument);
+    }
+
+    @Benchmark public Object newInstanceThroughTheoryInvoker() throws Exception {
+        return fInvoker.newInstance();
+    }
+}
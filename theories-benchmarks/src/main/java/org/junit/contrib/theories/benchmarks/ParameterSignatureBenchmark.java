@@ -0,0 +1,86 @@
+package org.junit.contrib.theories.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.ParametersSuppliedBy;
+import org.junit.contrib.theories.suppliers.TestedOn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Measures the type checks {@link ParameterSignature} answers for every data point group and every value, for a
+ * primitive, a plain reference and a generic parameter, along with looking up signatures and deep annotations.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParameterSignatureBenchmark {
+    public static class Parameters {
+        public void parameters(@TestedOn(ints = { 1 }) int primitive, Number reference, List<String> generic) {
+        }
+    }
+
+    private Method fMethod;
+    private ParameterSignature fPrimitive;
+    private ParameterSignature fReference;
+    private ParameterSignature fGeneric;
+    private Object fInteger;
+    private Object fStrings;
+
+    @Setup public void setUp() throws Exception {
+        fMethod = Parameters.class.getMethod("parameters", int.class, Number.class, List.class);
+        List<ParameterSignature> signatures = ParameterSignature.signatures(fMethod);
+        fPrimitive = signatures.get(0);
+        fReference = signatures.get(1);
+        fGeneric = signatures.get(2);
+        fInteger = 42;
+        fStrings = new ArrayList<String>();
+    }
+
+    @Benchmark public boolean primitiveAcceptsWrapperType() {
+        return fPrimitive.canAcceptType(Integer.class);
+    }
+
+    @Benchmark public boolean referenceAcceptsSubtype() {
+        return fReference.canAcceptType(Integer.class);
+    }
+
+    @Benchmark public boolean referenceRejectsUnrelatedType() {
+        return fReference.canAcceptType(String.class);
+    }
+
+    @Benchmark public boolean genericRejectsRawType() {
+        return fGeneric.canAcceptType(ArrayList.class);
+    }
+
+    @Benchmark public boolean primitiveAcceptsValue() {
+        return fPrimitive.canAcceptValue(fInteger);
+    }
+
+    @Benchmark public boolean genericRejectsRawValue() {
+        return fGeneric.canAcceptValue(fStrings);
+    }
+
+    @Benchmark public List<ParameterSignature> signatures() {
+        return ParameterSignature.signatures(fMethod);
+    }
+
+    @Benchmark public ParametersSuppliedBy findDeepAnnotation() {
+        return fPrimitive.findDeepAnnotation(ParametersSuppliedBy.class);
+    }
+}
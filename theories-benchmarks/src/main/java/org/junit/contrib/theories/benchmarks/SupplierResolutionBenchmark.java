@@ -0,0 +1,79 @@
+package org.junit.contrib.theories.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.contrib.theories.DataPoint;
+import org.junit.contrib.theories.DataPoints;
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.PotentialAssignment;
+import org.junit.contrib.theories.internal.AllMembersSupplier;
+import org.junit.contrib.theories.internal.Assignments;
+import org.junit.contrib.theories.suppliers.TestedOn;
+import org.junit.runners.model.TestClass;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Resolves the potential values of a single parameter: once straight from an {@link AllMembersSupplier} over a
+ * class with data points of several types, and once through {@link Assignments}, which also looks up the
+ * parameter's supplier.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SupplierResolutionBenchmark {
+    public static class MixedDataPoints {
+        @DataPoint public static int ONE = 1;
+        @DataPoint public static String ONE_STRING = "1";
+        @DataPoints public static int[] ints = { 2, 3, 4, 5, 6, 7, 8, 9 };
+        @DataPoints public static Object[] objects = { 10, "10", 10L, 10.0, Arrays.asList(10) };
+
+        @DataPoints public static long[] longs() {
+            return new long[] { 11L, 12L };
+        }
+
+        public void fromDataPoints(int x) {
+        }
+
+        public void fromTestedOn(@TestedOn(ints = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 }) int x) {
+        }
+    }
+
+    private TestClass fTestClass;
+    private Method fFromDataPoints;
+    private Method fFromTestedOn;
+    private ParameterSignature fFromDataPointsSignature;
+
+    @Setup public void setUp() throws Exception {
+        fTestClass = new TestClass(MixedDataPoints.class);
+        fFromDataPoints = MixedDataPoints.class.getMethod("fromDataPoints", int.class);
+        fFromTestedOn = MixedDataPoints.class.getMethod("fromTestedOn", int.class);
+        fFromDataPointsSignature = ParameterSignature.signatures(fFromDataPoints).get(0);
+    }
+
+    @Benchmark public List<PotentialAssignment> allMembersSupplier() throws Throwable {
+        return new AllMembersSupplier(fTestClass).getValueSources(fFromDataPointsSignature);
+    }
+
+    @Benchmark public List<PotentialAssignment> resolveDataPoints() throws Throwable {
+        return Assignments.allUnassigned(fFromDataPoints, fTestClass).potentialsForNextUnassigned();
+    }
+
+    @Benchmark public List<PotentialAssignment> resolveTestedOn() throws Throwable {
+        return Assignments.allUnassigned(fFromTestedOn, fTestClass).potentialsForNextUnassigned();
+    }
+}
@@ -0,0 +1,27 @@
+package org.junit.contrib.theories.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>Runs the benchmarks of this module with JMH's allocation profiler attached, so every result comes with the
+ * bytes allocated per operation alongside its time. Accepts the usual JMH command line, e.g.
+ * {@code java -jar target/benchmarks.jar EnumerationBenchmark -p arity=3}.</p>
+ */
+public class TheoriesBenchmarks {
+    private TheoriesBenchmarks() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,27 @@
+package org.junit.contrib.theories;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * <p>Marking a public static void no-arg method with this annotation causes it to be run once after each
+ * {@link Theory} method of the class has been enumerated by the {@link Theories} runner, even if the theory
+ * fails, rather than after each combination of parameters as {@link org.junit.After} methods are.</p>
+ *
+ * <pre>
+ * &#064;AfterTheory
+ * public static void stopDatabase() {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @see BeforeTheory
+ * @see Theories
+ */
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface AfterTheory {
+}
@@ -0,0 +1,28 @@
+package org.junit.contrib.theories;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * <p>Marking a public static void no-arg method with this annotation causes it to be run once before each
+ * {@link Theory} method of the class is enumerated by the {@link Theories} runner, rather than before each
+ * combination of parameters as {@link org.junit.Before} methods are. Useful for fixtures that are costly to
+ * set up but can be shared by every combination of a theory.</p>
+ *
+ * <pre>
+ * &#064;BeforeTheory
+ * public static void startDatabase() {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @see AfterTheory
+ * @see Theories
+ */
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface BeforeTheory {
+}
@@ -2,6 +2,7 @@ package org.junit.contrib.theories;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -10,6 +11,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.javaruntype.type.Types;
 
@@ -36,12 +39,42 @@ public class ParameterSignature {
         map.put(b, a);
     }
 
+    private static final Object NO_ANNOTATION = new Object();
+
+    private static final ClassValue<ConcurrentMap<Member, List<ParameterSignature>>> SIGNATURES =
+            new ClassValue<ConcurrentMap<Member, List<ParameterSignature>>>() {
+                @Override protected ConcurrentMap<Member, List<ParameterSignature>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<Member, List<ParameterSignature>>();
+                }
+            };
+
+    private static final ClassValue<ConcurrentMap<Class<?>, Object>> META_ANNOTATIONS =
+            new ClassValue<ConcurrentMap<Class<?>, Object>>() {
+                @Override protected ConcurrentMap<Class<?>, Object> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<Class<?>, Object>();
+                }
+            };
+
     public static List<ParameterSignature> signatures(Method method) {
-        return signatures(method.getGenericParameterTypes(), method.getParameterAnnotations());
+        ConcurrentMap<Member, List<ParameterSignature>> cache = SIGNATURES.get(method.getDeclaringClass());
+
+        List<ParameterSignature> sigs = cache.get(method);
+        if (sigs == null) {
+            sigs = signatures(method.getGenericParameterTypes(), method.getParameterAnnotations());
+            cache.putIfAbsent(method, sigs);
+        }
+        return new ArrayList<ParameterSignature>(sigs);
     }
 
     public static List<ParameterSignature> signatures(Constructor<?> constructor) {
-        return signatures(constructor.getGenericParameterTypes(), constructor.getParameterAnnotations());
+        ConcurrentMap<Member, List<ParameterSignature>> cache = SIGNATURES.get(constructor.getDeclaringClass());
+
+        List<ParameterSignature> sigs = cache.get(constructor);
+        if (sigs == null) {
+            sigs = signatures(constructor.getGenericParameterTypes(), constructor.getParameterAnnotations());
+            cache.putIfAbsent(constructor, sigs);
+        }
+        return new ArrayList<ParameterSignature>(sigs);
     }
 
     private static List<ParameterSignature> signatures(Type[] parameterTypes, Annotation[][] parameterAnnotations) {
@@ -54,6 +87,7 @@ public class ParameterSignature {
 
     private final Type type;
     private final Annotation[] annotations;
+    private final ConcurrentMap<Class<?>, Object> deepAnnotations = new ConcurrentHashMap<Class<?>, Object>();
 
     private ParameterSignature(Type type, Annotation[] annotations) {
         this.type = type;
@@ -101,10 +135,46 @@ public class ParameterSignature {
     }
 
     public <T extends Annotation> T findDeepAnnotation(Class<T> annotationType) {
-        return findDeepAnnotation(annotations, annotationType, 3);
+        Object found = deepAnnotations.get(annotationType);
+
+        if (found == null) {
+            found = findDeepAnnotationOnParameter(annotationType);
+            deepAnnotations.putIfAbsent(annotationType, found == null ? NO_ANNOTATION : found);
+        }
+
+        return found == NO_ANNOTATION ? null : annotationType.cast(found);
+    }
+
+    private <T extends Annotation> T findDeepAnnotationOnParameter(Class<T> annotationType) {
+        for (Annotation each : annotations) {
+            if (annotationType.isInstance(each)) {
+                return annotationType.cast(each);
+            }
+
+            T candidate = findMetaAnnotation(each.annotationType(), annotationType);
+            if (candidate != null) {
+                return candidate;
+            }
+        }
+
+        return null;
+    }
+
+    private static <T extends Annotation> T findMetaAnnotation(Class<? extends Annotation> annotatedType,
+            Class<T> annotationType) {
+
+        ConcurrentMap<Class<?>, Object> cache = META_ANNOTATIONS.get(annotatedType);
+
+        Object found = cache.get(annotationType);
+        if (found == null) {
+            found = findDeepAnnotation(annotatedType.getAnnotations(), annotationType, 2);
+            cache.putIfAbsent(annotationType, found == null ? NO_ANNOTATION : found);
+        }
+
+        return found == NO_ANNOTATION ? null : annotationType.cast(found);
     }
 
-    private <T extends Annotation> T findDeepAnnotation(Annotation[] annotations,
+    private static <T extends Annotation> T findDeepAnnotation(Annotation[] annotations,
             Class<T> annotationType, int depth) {
 
         if (depth == 0) {
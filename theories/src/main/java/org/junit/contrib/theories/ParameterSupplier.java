@@ -3,5 +3,38 @@ package org.junit.contrib.theories;
 import java.util.List;
 
 public abstract class ParameterSupplier {
+    /**
+     * Returned by {@link #countValueSources} when the number of values cannot be told without computing them.
+     */
+    public static final long UNKNOWN_COUNT = -1;
+
     public abstract List<PotentialAssignment> getValueSources(ParameterSignature sig) throws Throwable;
+
+    /**
+     * The {@link Theories} runner creates a supplier once for each theory parameter and reuses it for every value
+     * it needs for that parameter. Suppliers that keep state between calls to {@link #getValueSources} and rely on
+     * starting afresh each time should override this to answer {@code true}, in which case the runner creates a new
+     * instance whenever it needs values.
+     *
+     * @return whether this supplier needs a new instance for each call to {@link #getValueSources}
+     */
+    public boolean isStateful() {
+        return false;
+    }
+
+    /**
+     * The {@link Theories} runner asks for the number of values a supplier would supply for a theory parameter as
+     * the theory starts, to warn of theories with more combinations of values than can be tried in reasonable time,
+     * but only when {@value Theories#MAX_COMBINATIONS_PROPERTY} or
+     * {@value Theories#FAIL_ON_TOO_MANY_COMBINATIONS_PROPERTY} is set. It also asks as the theory starts when its
+     * progress is {@linkplain ReportTheoryProgress reported}, to give the total, and under
+     * {@value Theories#DESCRIBE_COMBINATIONS_PROPERTY} when the test class is described, to number the
+     * combinations. Otherwise values are never counted. Suppliers that can count their values without computing them, or computing anything expensive,
+     * should override this.
+     *
+     * @return how many values {@link #getValueSources} would supply for {@code sig}, or {@link #UNKNOWN_COUNT}
+     */
+    public long countValueSources(ParameterSignature sig) {
+        return UNKNOWN_COUNT;
+    }
 }
\ No newline at end of file
@@ -37,4 +37,12 @@ import static java.lang.annotation.RetentionPolicy.*;
 @Target({ ANNOTATION_TYPE, PARAMETER })
 public @interface ParametersSuppliedBy {
     Class<? extends ParameterSupplier> value();
+
+    /**
+     * Setting this to {@code true} makes the {@link Theories} runner call the supplier on a background thread. Values
+     * for the parameter start loading when the theory starts, and after each use the values for the next use start
+     * loading while the runner executes combinations, so that suppliers reading files or starting services overlap
+     * with test execution. Such suppliers must not rely on running on the thread that runs the theory.
+     */
+    boolean async() default false;
 }
@@ -0,0 +1,24 @@
+package org.junit.contrib.theories;
+
+import java.util.List;
+
+import org.junit.AssumptionViolatedException;
+
+/**
+ * <p>A potential value for a theory parameter that can learn from the assumptions it fails. When the
+ * {@link Theories} runner tries a theory with such a value and the theory, or anything it calls, violates an
+ * assumption, the runner asks the value for {@linkplain #reguesses better guesses} and tries those too.</p>
+ *
+ * <p>This suits parameters for which blind guessing would mostly be rejected, such as stubs that have to give the
+ * particular answers a theory assumes: rather than enumerating every possible answer, the runner follows the
+ * corrections the failed assumptions describe.</p>
+ *
+ * @see org.junit.contrib.theories.suppliers.Stub
+ */
+public abstract class ReguessableValue extends PotentialAssignment {
+    /**
+     * @param e an assumption violated while a theory ran with this value
+     * @return the values worth trying instead, possibly none
+     */
+    public abstract List<ReguessableValue> reguesses(AssumptionViolatedException e);
+}
@@ -0,0 +1,35 @@
+package org.junit.contrib.theories;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * <p>Marking a class run with {@link Theories} with this annotation has the runner report the progress of each of
+ * its theories to the given listeners, which helps tell a theory that is merely slow from one that hangs.</p>
+ *
+ * <pre>
+ * &#064;RunWith(Theories.class)
+ * &#064;ReportTheoryProgress(value = BuildLogProgress.class, intervalMillis = 30000)
+ * public class CodecTheories {
+ *     ...
+ * }
+ * </pre>
+ *
+ * <p>Progress of every theory can also be printed to {@code System.err}, without this annotation, by setting the
+ * system property {@value Theories#PROGRESS_PROPERTY} to {@code true}.</p>
+ *
+ * @see TheoryProgressListener
+ */
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface ReportTheoryProgress {
+    Class<? extends TheoryProgressListener>[] value();
+
+    /**
+     * @return how often to report progress while a theory runs
+     */
+    long intervalMillis() default Theories.DEFAULT_PROGRESS_INTERVAL_MILLIS;
+}
@@ -0,0 +1,71 @@
+package org.junit.contrib.theories;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>The combinations of values a theory took longest to run with. When the system property
+ * {@value Theories#SLOWEST_COMBINATIONS_PROPERTY} is set to a positive number, the {@link Theories} runner keeps that
+ * many of the slowest combinations of each theory run, and gives them to the theory's
+ * {@link TheoryProgressListener}s once it finishes:</p>
+ *
+ * <pre>
+ * public void finished(TheoryProgress progress) {
+ *     SlowestCombinations slowest = progress.getSlowestCombinations();
+ *     for (int i = 0; i &lt; slowest.size(); i++) {
+ *         System.out.println(slowest.getNanos(i) + "ns " + slowest.getCombination(i));
+ *     }
+ * }
+ * </pre>
+ */
+public class SlowestCombinations {
+    public static final SlowestCombinations NONE =
+            new SlowestCombinations(Collections.<String>emptyList(), new long[0]);
+
+    private final List<String> fCombinations;
+    private final long[] fNanos;
+
+    /**
+     * @param combinations the slowest combinations, slowest first
+     * @param nanos how long the theory took with each of {@code combinations}
+     */
+    public SlowestCombinations(List<String> combinations, long[] nanos) {
+        if (combinations.size() != nanos.length) {
+            throw new IllegalArgumentException(
+                    combinations.size() + " combinations but " + nanos.length + " durations");
+        }
+        fCombinations = Collections.unmodifiableList(new ArrayList<String>(combinations));
+        fNanos = nanos.clone();
+    }
+
+    public int size() {
+        return fNanos.length;
+    }
+
+    /**
+     * @return the {@code index}th slowest combination, described as {@code theory(value, value, ...)}
+     */
+    public String getCombination(int index) {
+        return fCombinations.get(index);
+    }
+
+    /**
+     * @return how long the theory took with the {@code index}th slowest combination
+     */
+    public long getNanos(int index) {
+        return fNanos[index];
+    }
+
+    public List<String> getCombinations() {
+        return fCombinations;
+    }
+
+    @Override public String toString() {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < size(); i++) {
+            lines.append(i == 0 ? "" : "\n").append(getNanos(i)).append("ns ").append(getCombination(i));
+        }
+        return lines.toString();
+    }
+}
@@ -1,17 +1,49 @@
 package org.junit.contrib.theories;
 
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.Assert;
 import org.junit.Assume;
 import org.junit.AssumptionViolatedException;
+import org.junit.Rule;
 import org.junit.contrib.theories.internal.Assignments;
+import org.junit.contrib.theories.internal.CombinationSelection;
+import org.junit.contrib.theories.internal.CombinationWatchdog;
+import org.junit.contrib.theories.internal.DataPointPool;
+import org.junit.contrib.theories.internal.LiveTheoryStatistics;
+import org.junit.contrib.theories.internal.MetricsReport;
+import org.junit.contrib.theories.internal.ParameterSpace;
 import org.junit.contrib.theories.internal.ParameterizedAssertionError;
+import org.junit.contrib.theories.internal.ProgressReporter;
+import org.junit.contrib.theories.internal.ResultCache;
+import org.junit.contrib.theories.internal.RunnerStatistics;
+import org.junit.contrib.theories.internal.SlowestCombinationsReport;
+import org.junit.contrib.theories.internal.TheoryEvents;
+import org.junit.contrib.theories.internal.TheoryInvoker;
+import org.junit.contrib.theories.internal.TheoryMetrics;
+import org.junit.internal.runners.model.EachTestNotifier;
+import org.junit.internal.runners.statements.RunAfters;
+import org.junit.internal.runners.statements.RunBefores;
+import org.junit.rules.MethodRule;
+import org.junit.rules.RunRules;
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.InitializationError;
@@ -21,6 +53,110 @@ import org.junit.runners.model.TestClass;
 import static org.junit.contrib.theories.ParameterSignature.*;
 
 public class Theories extends BlockJUnit4ClassRunner {
+    /**
+     * System property giving the most combinations of values a theory may be tried with before the runner warns of
+     * it. When this or {@value #FAIL_ON_TOO_MANY_COMBINATIONS_PROPERTY} is set, each theory is counted as it starts,
+     * after the {@code BeforeClass} methods have run, against a limit of {@value #DEFAULT_MAX_COMBINATIONS} unless
+     * this says otherwise; theories are not counted otherwise.
+     */
+    public static final String MAX_COMBINATIONS_PROPERTY = "theories.maxCombinations";
+
+    /**
+     * System property that, set to {@code true}, makes theories with more combinations than
+     * {@value #MAX_COMBINATIONS_PROPERTY} fail before any of them is tried, instead of being warned of.
+     */
+    public static final String FAIL_ON_TOO_MANY_COMBINATIONS_PROPERTY = "theories.failOnTooManyCombinations";
+
+    public static final long DEFAULT_MAX_COMBINATIONS = 1000000;
+
+    /**
+     * System property that, set to {@code true}, makes the runner print the progress of every theory to
+     * {@code System.err} every {@value #DEFAULT_PROGRESS_INTERVAL_MILLIS} milliseconds, or as often as the
+     * {@link ReportTheoryProgress} of the class says.
+     */
+    public static final String PROGRESS_PROPERTY = "theories.progress";
+
+    public static final long DEFAULT_PROGRESS_INTERVAL_MILLIS = 5000;
+
+    /**
+     * System property that, set to {@code true}, makes the runner record how each theory spends its time and write
+     * the figures for each class as JSON to {@value #METRICS_DIRECTORY_PROPERTY} once the class has run.
+     */
+    public static final String METRICS_PROPERTY = "theories.metrics";
+
+    public static final String METRICS_DIRECTORY_PROPERTY = "theories.metricsDirectory";
+
+    public static final String DEFAULT_METRICS_DIRECTORY = "target/theories-metrics";
+
+    /**
+     * System property giving how many of the slowest combinations of each theory to give its
+     * {@link TheoryProgressListener}s, as {@link SlowestCombinations}, once it finishes; none unless set. A theory
+     * without listeners prints them to {@code System.err} instead.
+     */
+    public static final String SLOWEST_COMBINATIONS_PROPERTY = "theories.slowestCombinations";
+
+    /**
+     * System property that, set to {@code true}, makes the runner describe each combination of values of a theory as
+     * a child of the theory's {@link Description}, named after its ordinal, e.g. {@code parses[17]}. A
+     * {@link Filter} can then select single combinations, and the runner tries only those; every combination run
+     * is reported on its own, and a failing one does not stop the rest. Only theories whose combinations can be
+     * counted up front, with neither {@link Unordered} parameters nor {@linkplain Theory#deduplicateDataPoints()
+     * deduplication}, are described this way. Counting them reads the data points of the class when it is described,
+     * before its {@code BeforeClass} methods have run.
+     *
+     * <p>The children are built eagerly, one {@link Description} per combination, and a filter is asked about each
+     * of them, so only theories with at most {@value #MAX_DESCRIBED_COMBINATIONS_PROPERTY} combinations are described
+     * this way. A filter naming a single combination, as {@link Filter#matchMethodDescription} does, picks it out of
+     * a theory of any size without looking at the others.</p>
+     */
+    public static final String DESCRIBE_COMBINATIONS_PROPERTY = "theories.describeCombinations";
+
+    /**
+     * System property giving the most combinations of values a theory may have and still be described combination
+     * by combination under {@value #DESCRIBE_COMBINATIONS_PROPERTY}; {@value #DEFAULT_MAX_DESCRIBED_COMBINATIONS} by
+     * default. Larger theories are described and run as one test, unless a filter names one of their combinations.
+     */
+    public static final String MAX_DESCRIBED_COMBINATIONS_PROPERTY = "theories.maxDescribedCombinations";
+
+    public static final long DEFAULT_MAX_DESCRIBED_COMBINATIONS = 10000;
+
+    /**
+     * System property that, set to {@code true}, makes the runner remember the combinations of values each theory
+     * passed with in {@value #RESULT_CACHE_DIRECTORY_PROPERTY}, and skip them in later runs until the test class or
+     * the values change. Changes to the code under test are not noticed, so this is meant for quick cycles while
+     * working on a theory, not for builds whose results matter.
+     */
+    public static final String RESULT_CACHE_PROPERTY = "theories.resultCache";
+
+    public static final String RESULT_CACHE_DIRECTORY_PROPERTY = "theories.resultCacheDirectory";
+
+    public static final String DEFAULT_RESULT_CACHE_DIRECTORY = "target/theories-results";
+
+    /**
+     * System property giving how often the runner emits a Java Flight Recorder event for a combination of values
+     * while a recording is running: one in every {@value #DEFAULT_JFR_COMBINATION_SAMPLING} combinations by default,
+     * every combination if set to 1.
+     */
+    public static final String JFR_COMBINATION_SAMPLING_PROPERTY = "theories.jfrCombinationSampling";
+
+    public static final int DEFAULT_JFR_COMBINATION_SAMPLING = 100;
+
+    /**
+     * System property that, set to {@code true}, makes the runner expose what its theories are doing as an MXBean
+     * named {@value RunnerStatistics#OBJECT_NAME}: the theory running, how many combinations of values it has been
+     * tried with and how many of them were rejected, and the values it is being tried with.
+     */
+    public static final String JMX_PROPERTY = "theories.jmx";
+
+    private final int fSlowestCombinations = Integer.getInteger(SLOWEST_COMBINATIONS_PROPERTY, 0);
+    private final boolean fDescribeCombinations = Boolean.getBoolean(DESCRIBE_COMBINATIONS_PROPERTY);
+    private final long fMaxDescribedCombinations =
+            Long.getLong(MAX_DESCRIBED_COMBINATIONS_PROPERTY, DEFAULT_MAX_DESCRIBED_COMBINATIONS);
+    private final Map<FrameworkMethod, Description> fTheoryDescriptions =
+            new ConcurrentHashMap<FrameworkMethod, Description>();
+    private final Map<FrameworkMethod, CombinationSelection> fCombinationSelections =
+            new HashMap<FrameworkMethod, CombinationSelection>();
+
     public Theories(Class<?> klass) throws InitializationError {
         super(klass);
     }
@@ -29,6 +165,25 @@ public class Theories extends BlockJUnit4ClassRunner {
         super.collectInitializationErrors(errors);
         validateDataPointFields(errors);
         validateDataPointMethods(errors);
+        validatePublicVoidNoArgMethods(BeforeTheory.class, true, errors);
+        validatePublicVoidNoArgMethods(AfterTheory.class, true, errors);
+        validateProgressListeners(errors);
+    }
+
+    private void validateProgressListeners(List<Throwable> errors) {
+        ReportTheoryProgress annotation = getTestClass().getJavaClass().getAnnotation(ReportTheoryProgress.class);
+        if (annotation == null) {
+            return;
+        }
+
+        for (Class<? extends TheoryProgressListener> each : annotation.value()) {
+            try {
+                each.getConstructor();
+            } catch (NoSuchMethodException e) {
+                errors.add(new Error("TheoryProgressListener " + each.getName()
+                        + " must have a public no-argument constructor"));
+            }
+        }
     }
 
     private void validateDataPointFields(List<Throwable> errors) {
@@ -104,16 +259,164 @@ public class Theories extends BlockJUnit4ClassRunner {
         return testMethods;
     }
 
+    @Override protected Statement classBlock(RunNotifier notifier) {
+        final Statement statement = super.classBlock(notifier);
+        if (!MetricsReport.isEnabled()) {
+            return statement;
+        }
+
+        return new Statement() {
+            @Override public void evaluate() throws Throwable {
+                try {
+                    statement.evaluate();
+                } finally {
+                    writeMetrics();
+                }
+            }
+        };
+    }
+
+    private void writeMetrics() {
+        try {
+            MetricsReport.write(getTestClass());
+        } catch (IOException e) {
+            System.err.println("WARNING: could not write theory metrics for " + getTestClass().getName() + ": " + e);
+        }
+    }
+
+    @Override protected Statement childrenInvoker(RunNotifier notifier) {
+        final Statement children = super.childrenInvoker(notifier);
+        final WarmUpDataPoints warmUp = getTestClass().getJavaClass().getAnnotation(WarmUpDataPoints.class);
+        if (warmUp == null) {
+            return children;
+        }
+
+        return new Statement() {
+            @Override public void evaluate() throws Throwable {
+                DataPointPool.forClass(getTestClass()).warmUp(getTestClass(), warmUp.threads());
+                children.evaluate();
+            }
+        };
+    }
+
+    @Override protected Description describeChild(FrameworkMethod method) {
+        if (method.getAnnotation(Theory.class) == null) {
+            return super.describeChild(method);
+        }
+        CombinationSelection combinations = describedCombinationsOf(method);
+        if (combinations == null) {
+            return super.describeChild(method);
+        }
+
+        Description description = fTheoryDescriptions.get(method);
+        if (description == null) {
+            description = Description.createTestDescription(getTestClass().getJavaClass(), testName(method),
+                    method.getAnnotations());
+            combinations.addChildren(description);
+            fTheoryDescriptions.put(method, description);
+        }
+        return description;
+    }
+
+    private synchronized CombinationSelection combinationsOf(FrameworkMethod method) {
+        if (!fDescribeCombinations) {
+            return null;
+        }
+        if (!fCombinationSelections.containsKey(method)) {
+            fCombinationSelections.put(method, CombinationSelection.of(method, getTestClass()));
+        }
+        return fCombinationSelections.get(method);
+    }
+
+    private CombinationSelection describedCombinationsOf(FrameworkMethod method) {
+        CombinationSelection combinations = combinationsOf(method);
+        return combinations != null && combinations.size() <= fMaxDescribedCombinations ? combinations : null;
+    }
+
+    @Override public void filter(final Filter filter) throws NoTestsRemainException {
+        for (FrameworkMethod each : getTestClass().getAnnotatedMethods(Theory.class)) {
+            CombinationSelection combinations = combinationsOf(each);
+            if (combinations != null && !filter.shouldRun(describeChild(each).childlessCopy())
+                    && (combinations.size() <= fMaxDescribedCombinations || combinations.ordinalNamedBy(filter) >= 0)) {
+                combinations.restrictTo(filter);
+                fTheoryDescriptions.remove(each);
+            }
+        }
+
+        super.filter(new Filter() {
+            @Override public boolean shouldRun(Description description) {
+                return filter.shouldRun(description) || filter.shouldRun(description.childlessCopy());
+            }
+
+            @Override public String describe() {
+                return filter.describe();
+            }
+        });
+    }
+
+    @Override protected void runChild(FrameworkMethod method, RunNotifier notifier) {
+        CombinationSelection combinations = describedCombinationsOf(method);
+        if (combinations == null || isIgnored(method)) {
+            super.runChild(method, notifier);
+            return;
+        }
+
+        TheoryAnchor anchor = (TheoryAnchor) methodBlock(method);
+        anchor.fCombinations = combinations;
+        anchor.fNotifier = notifier;
+        try {
+            anchor.evaluate();
+        } catch (AssumptionViolatedException e) {
+            EachTestNotifier theory = startedTheory(method, notifier);
+            theory.addFailedAssumption(e);
+            theory.fireTestFinished();
+        } catch (Throwable e) {
+            EachTestNotifier theory = startedTheory(method, notifier);
+            theory.addFailure(e);
+            theory.fireTestFinished();
+        }
+    }
+
+    /**
+     * Reports the theory itself as started, so that a failure of the theory as a whole, rather than of one of its
+     * combinations, comes between a start and a finish like any other.
+     */
+    private EachTestNotifier startedTheory(FrameworkMethod method, RunNotifier notifier) {
+        EachTestNotifier theory = new EachTestNotifier(notifier, describeChild(method));
+        theory.fireTestStarted();
+        return theory;
+    }
+
     @Override public Statement methodBlock(FrameworkMethod method) {
-        return new TheoryAnchor(method, getTestClass());
+        TheoryAnchor anchor = new TheoryAnchor(method, getTestClass());
+        if (fSlowestCombinations > 0) {
+            anchor.fSlowest = new SlowestCombinationsReport(method.getName(), fSlowestCombinations);
+        }
+        return anchor;
     }
 
     public static class TheoryAnchor extends Statement {
         private final FrameworkMethod fTestMethod;
         private final TestClass fTestClass;
         private final List<AssumptionViolatedException> fInvalidParameters = new ArrayList<AssumptionViolatedException>();
+        private final List<Reguessing> fReguessing = new ArrayList<Reguessing>();
 
         private int successes = 0;
+        private int fFailedCombinations = 0;
+        private TheoryInvoker fInvoker;
+        private ProgressReporter fProgress;
+        private TheoryMetrics fMetrics = TheoryMetrics.DISABLED;
+        private ResultCache fResults = ResultCache.DISABLED;
+        private TheoryEvents fEvents = TheoryEvents.DISABLED;
+        private LiveTheoryStatistics fLive = LiveTheoryStatistics.DISABLED;
+        private long fCombinationsReached;
+        private SlowestCombinationsReport fSlowest;
+        private CombinationSelection fCombinations;
+        private RunNotifier fNotifier;
+        private int fAssignedCount;
+        private long fOrdinal;
+        private boolean fViolatedAssumption;
+        private Object fSharedInstance;
 
         public TheoryAnchor(FrameworkMethod method, TestClass testClass) {
             fTestMethod = method;
@@ -125,17 +428,102 @@ public class Theories extends BlockJUnit4ClassRunner {
         }
 
         @Override public void evaluate() throws Throwable {
-            runWithAssignment(Assignments.allUnassigned(fTestMethod.getMethod(), getTestClass()));
+            Statement enumeration = new Statement() {
+                @Override
+                public void evaluate() throws Throwable {
+                    runAllAssignments();
+                }
+            };
+
+            if (fTestMethod.getAnnotation(Theory.class) == null) {
+                enumeration.evaluate();
+            } else {
+                withAfterTheories(withBeforeTheories(enumeration)).evaluate();
+            }
+        }
+
+        private Statement withBeforeTheories(Statement statement) {
+            List<FrameworkMethod> befores = getTestClass().getAnnotatedMethods(BeforeTheory.class);
+            return befores.isEmpty() ? statement : new RunBefores(statement, befores, null);
+        }
+
+        private Statement withAfterTheories(Statement statement) {
+            List<FrameworkMethod> afters = getTestClass().getAnnotatedMethods(AfterTheory.class);
+            return afters.isEmpty() ? statement : new RunAfters(statement, afters, null);
+        }
+
+        private void runAllAssignments() throws Throwable {
+            DataPointPool.forClass(getTestClass()).forgetFieldValues();
+            Assignments allUnassigned = Assignments.allUnassigned(fTestMethod.getMethod(), getTestClass());
+            fInvoker = TheoryInvoker.forTheory(fTestMethod, getTestClass());
+            fProgress = ProgressReporter.forTheory(fTestMethod, getTestClass(), allUnassigned);
+            fMetrics = MetricsReport.startTheory(fTestMethod, getTestClass());
+            fResults = ResultCache.forTheory(fTestMethod, getTestClass());
+            fEvents = TheoryEvents.forTheory(fTestMethod, getTestClass());
+            fLive = RunnerStatistics.startTheory(fTestMethod, getTestClass());
+            try {
+                checkParameterSpace(allUnassigned);
+                runWithAssignment(allUnassigned);
+            } finally {
+                allUnassigned.discardPrefetchedValues();
+                fProgress.finished(fSlowest == null ? SlowestCombinations.NONE : fSlowest.snapshot());
+                writeResults();
+                fEvents.theoryFinished(fCombinationsReached, successes, fInvalidParameters.size());
+                fLive.finished();
+            }
 
             // if this test method is not annotated with Theory, then no successes is a valid case
             boolean hasTheoryAnnotation = fTestMethod.getAnnotation(Theory.class) != null;
-            if (successes == 0 && hasTheoryAnnotation) {
+            if (successes == 0 && fFailedCombinations == 0 && hasTheoryAnnotation) {
                 Assert.fail("Never found parameters that satisfied method assumptions.  Violated assumptions: "
                         + fInvalidParameters);
             }
         }
 
+        private void checkParameterSpace(Assignments allUnassigned) {
+            boolean fail = Boolean.getBoolean(FAIL_ON_TOO_MANY_COMBINATIONS_PROPERTY);
+            if (!fail && System.getProperty(MAX_COMBINATIONS_PROPERTY) == null) {
+                return;
+            }
+
+            long maxCombinations = Long.getLong(MAX_COMBINATIONS_PROPERTY, DEFAULT_MAX_COMBINATIONS);
+            ParameterSpace space = allUnassigned.getParameterSpace();
+            if (space.getSize() <= maxCombinations) {
+                return;
+            }
+
+            String message = "Theory " + fTestMethod.getName() + " would be tried with " + space
+                    + " combinations of values, more than the " + maxCombinations + " allowed by "
+                    + MAX_COMBINATIONS_PROPERTY;
+            if (fail) {
+                throw new Error(message);
+            }
+            System.err.println("WARNING: " + message);
+        }
+
+        private void writeResults() {
+            try {
+                fResults.write();
+            } catch (IOException e) {
+                System.err.println("WARNING: could not remember the passing combinations of theory "
+                        + fTestMethod.getName() + ": " + e);
+            }
+        }
+
         protected void runWithAssignment(Assignments parameterAssignment) throws Throwable {
+            if (parameterAssignment.isConstructorBoundary()) {
+                fSharedInstance = null;
+
+                if (!rulesPerCombination()) {
+                    runWithSharedRules(parameterAssignment);
+                    return;
+                }
+            }
+
+            continueWithAssignment(parameterAssignment);
+        }
+
+        private void continueWithAssignment(Assignments parameterAssignment) throws Throwable {
             if (!parameterAssignment.isComplete()) {
                 runWithIncompleteAssignment(parameterAssignment);
             } else {
@@ -143,13 +531,187 @@ public class Theories extends BlockJUnit4ClassRunner {
             }
         }
 
+        private void runWithSharedRules(final Assignments constructorAssignment) throws Throwable {
+            try {
+                fSharedInstance = createInstance(constructorAssignment.getConstructorArguments());
+            } catch (AssumptionViolatedException e) {
+                handleAssumptionViolation(e);
+                return;
+            } catch (InvocationTargetException e) {
+                reportParameterizedError(e.getTargetException(), constructorAssignment.getArgumentStrings());
+                return;
+            } catch (Throwable e) {
+                reportParameterizedError(e, constructorAssignment.getArgumentStrings());
+                return;
+            }
+
+            Statement enumeration = new Statement() {
+                @Override
+                public void evaluate() throws Throwable {
+                    continueWithAssignment(constructorAssignment);
+                }
+            };
+
+            withRules(fSharedInstance, enumeration).evaluate();
+        }
+
+        private Statement withRules(Object target, Statement statement) {
+            List<TestRule> testRules = getTestClass().getAnnotatedMethodValues(target, Rule.class, TestRule.class);
+            testRules.addAll(getTestClass().getAnnotatedFieldValues(target, Rule.class, TestRule.class));
+
+            List<MethodRule> methodRules =
+                    getTestClass().getAnnotatedMethodValues(target, Rule.class, MethodRule.class);
+            methodRules.addAll(getTestClass().getAnnotatedFieldValues(target, Rule.class, MethodRule.class));
+
+            Statement result = statement;
+            for (MethodRule each : methodRules) {
+                if (!testRules.contains(each)) {
+                    result = each.apply(result, fTestMethod, target);
+                }
+            }
+
+            if (testRules.isEmpty()) {
+                return result;
+            }
+            Description description = Description.createTestDescription(
+                    getTestClass().getJavaClass(), fTestMethod.getName(), fTestMethod.getAnnotations());
+            return new RunRules(result, testRules, description);
+        }
+
         protected void runWithIncompleteAssignment(Assignments incomplete) throws Throwable {
-            for (PotentialAssignment each : incomplete.potentialsForNextUnassigned()) {
-                runWithAssignment(incomplete.assignNext(each));
+            long suppliersStarted = fMetrics.start();
+            Object suppliersEvent = fEvents.suppliersStarted();
+            List<PotentialAssignment> potentials = incomplete.potentialsForNextUnassigned();
+            fEvents.suppliersRan(suppliersEvent, incomplete, potentials.size());
+            fMetrics.suppliersRan(suppliersStarted);
+            if (fCombinations != null) {
+                runWithSelectedPotentials(incomplete, potentials);
+                return;
+            }
+
+            int first = Math.min(incomplete.firstPotentialIndexForNextUnassigned(), potentials.size());
+            ListIterator<PotentialAssignment> iterator = potentials.listIterator(first);
+
+            while (iterator.hasNext()) {
+                int index = iterator.nextIndex();
+                PotentialAssignment next = iterator.next();
+
+                if (next instanceof ReguessableValue) {
+                    runWithGuesses(incomplete, (ReguessableValue) next, index);
+                } else {
+                    runWithAssignment(incomplete.assignNext(next, index, !iterator.hasNext()));
+                }
+            }
+        }
+
+        private void runWithSelectedPotentials(Assignments incomplete, List<PotentialAssignment> potentials)
+                throws Throwable {
+            int parameter = fAssignedCount;
+            long prefix = fOrdinal;
+            fCombinations.checkValueCount(parameter, potentials.size());
+
+            fAssignedCount = parameter + 1;
+            try {
+                int index = fCombinations.nextSelectedIndex(prefix, parameter, 0);
+                while (index < potentials.size()) {
+                    int next = fCombinations.nextSelectedIndex(prefix, parameter, index + 1);
+                    fOrdinal = fCombinations.ordinal(prefix, parameter, index);
+                    runWithAssignment(incomplete.assignNext(potentials.get(index), index, next >= potentials.size()));
+                    index = next;
+                }
+            } finally {
+                fAssignedCount = parameter;
+                fOrdinal = prefix;
+            }
+        }
+
+        private void runWithGuesses(Assignments incomplete, ReguessableValue firstGuess, int index) throws Throwable {
+            Reguessing reguessing = new Reguessing(firstGuess);
+            fReguessing.add(reguessing);
+            try {
+                ReguessableValue guess;
+                while ((guess = reguessing.next()) != null) {
+                    runWithAssignment(incomplete.assignNext(guess, index));
+                }
+            } finally {
+                fReguessing.remove(reguessing);
             }
         }
 
         protected void runWithCompleteAssignment(final Assignments complete) throws Throwable {
+            long ordinal = fCombinations != null ? fOrdinal : fCombinationsReached;
+            fCombinationsReached++;
+
+            String fingerprint = fResults.fingerprint(complete);
+            if (fingerprint != null && fResults.passedBefore(fingerprint)) {
+                handlePassedBefore();
+                return;
+            }
+
+            int successesBefore = successes;
+            int rejectionsBefore = fInvalidParameters.size();
+            Object combinationEvent = fEvents.combinationStarted();
+            fLive.combinationStarted(complete);
+            try {
+                runWithTiming(complete);
+            } finally {
+                fLive.combinationFinished();
+                if (combinationEvent != null) {
+                    fEvents.combinationFinished(combinationEvent, ordinal,
+                            outcomeSince(successesBefore, rejectionsBefore));
+                }
+            }
+            if (fingerprint != null && successes > successesBefore) {
+                fResults.passed(fingerprint);
+            }
+        }
+
+        private String outcomeSince(int successesBefore, int rejectionsBefore) {
+            if (successes > successesBefore) {
+                return "passed";
+            }
+            return fInvalidParameters.size() > rejectionsBefore ? "rejected" : "failed";
+        }
+
+        private void runWithTiming(Assignments complete) throws Throwable {
+            boolean timed = fMetrics.isEnabled() || fSlowest != null;
+            long started = timed ? System.nanoTime() : 0;
+            try {
+                if (fCombinations != null) {
+                    runDescribedCombination(complete);
+                } else {
+                    runCombination(complete);
+                }
+            } finally {
+                if (timed) {
+                    long nanos = System.nanoTime() - started;
+                    fMetrics.combinationTook(nanos);
+                    if (fSlowest != null) {
+                        fSlowest.offer(nanos, complete);
+                    }
+                }
+            }
+        }
+
+        private void runDescribedCombination(Assignments complete) {
+            Description description = fCombinations.describe(fOrdinal);
+            fNotifier.fireTestStarted(description);
+            fViolatedAssumption = false;
+            try {
+                runCombination(complete);
+                if (fViolatedAssumption) {
+                    fNotifier.fireTestAssumptionFailed(new Failure(description,
+                            fInvalidParameters.get(fInvalidParameters.size() - 1)));
+                }
+            } catch (Throwable e) {
+                fFailedCombinations++;
+                fNotifier.fireTestFailure(new Failure(description, e));
+            } finally {
+                fNotifier.fireTestFinished(description);
+            }
+        }
+
+        private void runCombination(final Assignments complete) throws Throwable {
             new BlockJUnit4ClassRunner(getTestClass().getJavaClass()) {
                 @Override protected void collectInitializationErrors(List<Throwable> errors) {
                     // do nothing
@@ -172,24 +734,47 @@ public class Theories extends BlockJUnit4ClassRunner {
                     };
                 }
 
+                @Override protected List<MethodRule> rules(Object target) {
+                    return rulesPerCombination() ? super.rules(target) : Collections.<MethodRule>emptyList();
+                }
+
+                @Override protected List<TestRule> getTestRules(Object target) {
+                    return rulesPerCombination() ? super.getTestRules(target) : Collections.<TestRule>emptyList();
+                }
+
                 @Override protected Statement methodInvoker(FrameworkMethod method, Object test) {
-                    return methodCompletesWithParameters(method, complete, test);
+                    Statement invoker = methodCompletesWithParameters(complete, test);
+                    long timeout = perCombinationTimeoutMillis();
+                    return timeout > 0 ? CombinationWatchdog.withTimeout(invoker, timeout) : invoker;
                 }
 
                 @Override public Object createTest() throws Exception {
-                    Object[] params = complete.getConstructorArguments();
-
-                    if (!nullsOk()) {
-                        Assume.assumeNotNull(params);
+                    if (!instancePerCombination()) {
+                        if (fSharedInstance == null) {
+                            fSharedInstance = createInstance(complete.getConstructorArguments());
+                        }
+                        return fSharedInstance;
                     }
 
-                    return getTestClass().getOnlyConstructor().newInstance(params);
+                    return createInstance(complete.getConstructorArguments());
                 }
             }.methodBlock(fTestMethod).evaluate();
         }
 
-        private Statement methodCompletesWithParameters(final FrameworkMethod method, final Assignments complete,
-                final Object freshInstance) {
+        private Object createInstance(Object[] params) throws Exception {
+            if (!nullsOk()) {
+                Assume.assumeNotNull(params);
+            }
+
+            long started = fMetrics.start();
+            try {
+                return fInvoker.newInstance(params);
+            } finally {
+                fMetrics.instanceCreated(started);
+            }
+        }
+
+        private Statement methodCompletesWithParameters(final Assignments complete, final Object freshInstance) {
             return new Statement() {
                 @Override
                 public void evaluate() throws Throwable {
@@ -199,16 +784,25 @@ public class Theories extends BlockJUnit4ClassRunner {
                         Assume.assumeNotNull(values);
                     }
 
-                    method.invokeExplosively(freshInstance, values);
+                    fInvoker.invoke(freshInstance, values);
                 }
             };
         }
 
         protected void handleAssumptionViolation(AssumptionViolatedException e) {
             fInvalidParameters.add(e);
+            fViolatedAssumption = true;
+            fLive.rejected();
+            fProgress.combinationDone(true);
+            fMetrics.assumptionViolated(e);
+            for (Reguessing each : fReguessing) {
+                each.update(e);
+            }
         }
 
         protected void reportParameterizedError(Throwable e, Object... params) throws Throwable {
+            fMetrics.failed();
+            fProgress.combinationFailed();
             if (params.length == 0) {
                 throw e;
             }
@@ -220,8 +814,63 @@ public class Theories extends BlockJUnit4ClassRunner {
             return annotation != null && annotation.nullsAccepted();
         }
 
+        private boolean instancePerCombination() {
+            Theory annotation = fTestMethod.getMethod().getAnnotation(Theory.class);
+            return annotation == null || (annotation.instancePerCombination() && annotation.rulesPerCombination());
+        }
+
+        private long perCombinationTimeoutMillis() {
+            Theory annotation = fTestMethod.getMethod().getAnnotation(Theory.class);
+            return annotation == null ? 0 : annotation.perCombinationTimeoutMillis();
+        }
+
+        private boolean rulesPerCombination() {
+            Theory annotation = fTestMethod.getMethod().getAnnotation(Theory.class);
+            return annotation == null || annotation.rulesPerCombination();
+        }
+
         protected void handleDataPointSuccess() {
             successes++;
+            fProgress.combinationDone(false);
+            fMetrics.succeeded();
+        }
+
+        private void handlePassedBefore() {
+            successes++;
+            fProgress.combinationDone(false);
+            if (fCombinations != null) {
+                fNotifier.fireTestIgnored(fCombinations.describe(fOrdinal));
+            }
+        }
+    }
+
+    /**
+     * The guesses still to try for a parameter given a {@link ReguessableValue}, and those already tried, so that
+     * guesses that correct each other back and forth are each tried only once.
+     */
+    private static class Reguessing {
+        private final List<ReguessableValue> fPending = new ArrayList<ReguessableValue>();
+        private final List<ReguessableValue> fTried = new ArrayList<ReguessableValue>();
+        private ReguessableValue fCurrent;
+
+        Reguessing(ReguessableValue firstGuess) {
+            fPending.add(firstGuess);
+        }
+
+        ReguessableValue next() {
+            fCurrent = fPending.isEmpty() ? null : fPending.remove(0);
+            if (fCurrent != null) {
+                fTried.add(fCurrent);
+            }
+            return fCurrent;
+        }
+
+        void update(AssumptionViolatedException e) {
+            for (ReguessableValue each : fCurrent.reguesses(e)) {
+                if (!fTried.contains(each) && !fPending.contains(each)) {
+                    fPending.add(each);
+                }
+            }
         }
     }
 }
@@ -10,4 +10,34 @@ import static java.lang.annotation.RetentionPolicy.*;
 @Target(METHOD)
 public @interface Theory {
     boolean nullsAccepted() default true;
+
+    /**
+     * Setting this to {@code false} makes the {@link Theories} runner create one test instance for each distinct
+     * assignment of constructor parameters, and reuse it for every assignment of the theory method's parameters.
+     * Only appropriate for theories that keep no per-test state in the test instance.
+     */
+    boolean instancePerCombination() default true;
+
+    /**
+     * Setting this to {@code false} makes the {@link Theories} runner apply the {@link org.junit.Rule}s of the test
+     * instance once around all the combinations that share that instance, rather than around each combination.
+     * Implies {@code instancePerCombination = false}, so for a class whose constructor takes no parameters the
+     * rules are applied once around the whole theory.
+     */
+    boolean rulesPerCombination() default true;
+
+    /**
+     * When positive, a combination of parameters that runs longer than this many milliseconds fails the theory,
+     * with the offending assignment reported, and no further combinations are tried. The combination runs on the
+     * theory's own thread, which is interrupted once the time is up; one that does not respond to being interrupted
+     * runs to its end before failing.
+     */
+    long perCombinationTimeoutMillis() default 0;
+
+    /**
+     * Setting this to {@code true} makes the {@link Theories} runner drop potential values for a parameter that
+     * equal a value already supplied for it by another data point, keeping the first. Useful when several
+     * {@link DataPoint} and {@link DataPoints} sources overlap.
+     */
+    boolean deduplicateDataPoints() default false;
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package org.junit.contrib.theories;
+
+import java.util.Locale;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.*;
+
+/**
+ * <p>How far a theory has got: how many combinations of values it has been tried with so far, how many of those
+ * it rejected by violating an assumption and how many it failed with, and, where the number of combinations could be
+ * told beforehand, how many there are in all.</p>
+ */
+public class TheoryProgress {
+    private final String fTheory;
+    private final long fCombinationsDone;
+    private final long fCombinationsRejected;
+    private final long fCombinationsFailed;
+    private final long fTotalCombinations;
+    private final long fElapsedNanos;
+    private final SlowestCombinations fSlowest;
+
+    public TheoryProgress(String theory, long combinationsDone, long combinationsRejected, long totalCombinations,
+            long elapsedNanos) {
+        this(theory, combinationsDone, combinationsRejected, 0, totalCombinations, elapsedNanos,
+                SlowestCombinations.NONE);
+    }
+
+    public TheoryProgress(String theory, long combinationsDone, long combinationsRejected, long combinationsFailed,
+            long totalCombinations, long elapsedNanos, SlowestCombinations slowest) {
+        fTheory = theory;
+        fCombinationsDone = combinationsDone;
+        fCombinationsRejected = combinationsRejected;
+        fCombinationsFailed = combinationsFailed;
+        fTotalCombinations = totalCombinations;
+        fElapsedNanos = elapsedNanos;
+        fSlowest = slowest;
+    }
+
+    /**
+     * @return the name of the theory, as {@code Class.method}
+     */
+    public String getTheory() {
+        return fTheory;
+    }
+
+    public long getCombinationsDone() {
+        return fCombinationsDone;
+    }
+
+    public long getCombinationsRejected() {
+        return fCombinationsRejected;
+    }
+
+    /**
+     * @return how many of the combinations done the theory failed with; these are among
+     * {@link #getCombinationsDone()}
+     */
+    public long getCombinationsFailed() {
+        return fCombinationsFailed;
+    }
+
+    /**
+     * @return the number of combinations the theory will be tried with, or {@code -1} if not known
+     */
+    public long getTotalCombinations() {
+        return fTotalCombinations;
+    }
+
+    public long getElapsedNanos() {
+        return fElapsedNanos;
+    }
+
+    /**
+     * @return the slowest combinations of the theory, once it has finished and if
+     * {@value Theories#SLOWEST_COMBINATIONS_PROPERTY} asked for them; {@link SlowestCombinations#NONE} otherwise
+     */
+    public SlowestCombinations getSlowestCombinations() {
+        return fSlowest;
+    }
+
+    public double getCombinationsPerSecond() {
+        return fElapsedNanos == 0 ? 0 : fCombinationsDone * (double) SECONDS.toNanos(1) / fElapsedNanos;
+    }
+
+    /**
+     * @return the share of the combinations done that the theory rejected, from 0 to 1
+     */
+    public double getRejectionRatio() {
+        return fCombinationsDone == 0 ? 0 : fCombinationsRejected / (double) fCombinationsDone;
+    }
+
+    /**
+     * @return an estimate of how much longer the theory will run, from the rate so far, or {@code -1} if the total
+     * number of combinations is not known
+     */
+    public long getEstimatedRemainingMillis() {
+        if (fTotalCombinations < 0 || fCombinationsDone == 0) {
+            return -1;
+        }
+        long remaining = Math.max(0, fTotalCombinations - fCombinationsDone);
+        return (long) (NANOSECONDS.toMillis(fElapsedNanos) * (remaining / (double) fCombinationsDone));
+    }
+
+    @Override public String toString() {
+        StringBuilder line = new StringBuilder(fTheory).append(": ").append(fCombinationsDone);
+        if (fTotalCombinations >= 0) {
+            line.append('/').append(fTotalCombinations);
+        }
+        line.append(format(Locale.ROOT, " combinations, %.1f/s, %.1f%% rejected", getCombinationsPerSecond(),
+                getRejectionRatio() * 100));
+        if (fCombinationsFailed > 0) {
+            line.append(", ").append(fCombinationsFailed).append(" failed");
+        }
+
+        long remaining = getEstimatedRemainingMillis();
+        if (remaining >= 0) {
+            line.append(format(", about %ds left", MILLISECONDS.toSeconds(remaining)));
+        }
+        return line.toString();
+    }
+}
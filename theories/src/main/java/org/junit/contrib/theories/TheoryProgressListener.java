@@ -0,0 +1,15 @@
+package org.junit.contrib.theories;
+
+/**
+ * <p>Told of the progress of each theory of a class marked with {@link ReportTheoryProgress}, every
+ * {@link ReportTheoryProgress#intervalMillis()} while the theory runs and once when it finishes. The
+ * {@link Theories} runner creates one listener for each theory, using its public no-argument constructor, and calls
+ * it from the thread running the theory.</p>
+ *
+ * @see TheoryProgress
+ */
+public interface TheoryProgressListener {
+    void progress(TheoryProgress progress);
+
+    void finished(TheoryProgress progress);
+}
@@ -0,0 +1,35 @@
+package org.junit.contrib.theories;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * <p>Marking adjacent parameters of the same type and the same source of values of a {@link Theory} method with this
+ * annotation tells the {@link Theories} runner that the theory does not depend on the order of their values, as is the
+ * case for properties such as symmetry of {@code equals} or commutativity of {@code merge}. The runner then tries each
+ * unordered selection of values only once: where it would have tried both {@code (x, y)} and {@code (y, x)}, it tries
+ * only the one in which the values appear in the same order as among the potential values for the parameters.
+ * Selections that repeat a value, such as {@code (x, x)}, are still tried.</p>
+ *
+ * <pre>
+ * &#064;Theory
+ * public void equalsIsSymmetric(&#064;Unordered Object a, &#064;Unordered Object b) {
+ *     assertEquals(a.equals(b), b.equals(a));
+ * }
+ * </pre>
+ *
+ * <p>A run of {@code n} such parameters over {@code k} potential values is tried {@code C(k + n - 1, n)} times
+ * instead of {@code k^n} times. Parameters only form a run if they carry equal annotations, so that they draw from
+ * the same values; adjacent parameters with, say, different {@link org.junit.contrib.theories.suppliers.TestedOn}
+ * values are tried in every order.</p>
+ *
+ * @see Theories
+ * @see Theory
+ */
+@Retention(RUNTIME)
+@Target(PARAMETER)
+public @interface Unordered {
+}
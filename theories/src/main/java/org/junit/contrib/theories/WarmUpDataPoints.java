@@ -0,0 +1,42 @@
+package org.junit.contrib.theories;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * <p>Marking a class run with {@link Theories} with this annotation has the runner evaluate all static
+ * {@link DataPoint} and {@link DataPoints} methods of the class concurrently, after the class's
+ * {@link org.junit.BeforeClass} methods and before its first theory, rather than one by one as each theory asks for
+ * them. This pays off when the data point methods are slow, for instance because they read fixtures or build large
+ * object graphs.</p>
+ *
+ * <pre>
+ * &#064;RunWith(Theories.class)
+ * &#064;WarmUpDataPoints(threads = 4)
+ * public class ParserTheories {
+ *     &#064;DataPoints
+ *     public static Document[] documents() {
+ *         return loadFixtures("documents");
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>Each method is then evaluated once, and the value it returned is shared by every theory of the class instead
+ * of being computed afresh for each one. An exception a method throws is kept and handled as if the method had
+ * thrown it when its values were asked for, so {@link DataPoint#ignoredExceptions()} and
+ * {@link DataPoints#ignoredExceptions()} still apply.</p>
+ *
+ * @see Theories
+ */
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface WarmUpDataPoints {
+    /**
+     * @return the most data point methods to evaluate at once; zero or less means the number of available
+     * processors
+     */
+    int threads() default 0;
+}
@@ -21,14 +21,16 @@ import org.junit.runners.model.TestClass;
 public class AllMembersSupplier extends ParameterSupplier {
     static class MethodParameterValue extends PotentialAssignment {
         private final FrameworkMethod fMethod;
+        private final DataPointPool fPool;
 
-        private MethodParameterValue(FrameworkMethod dataPointMethod) {
+        private MethodParameterValue(FrameworkMethod dataPointMethod, DataPointPool pool) {
             fMethod = dataPointMethod;
+            fPool = pool;
         }
 
         @Override public Object getValue() throws CouldNotGenerateValueException {
             try {
-                return fMethod.invokeExplosively(null);
+                return fPool.isWarmedUp(fMethod) ? fPool.warmedUpValue(fMethod) : fMethod.invokeExplosively(null);
             } catch (IllegalArgumentException e) {
                 throw new RuntimeException("unexpected: argument length is checked");
             } catch (IllegalAccessException e) {
@@ -63,14 +65,44 @@ public class AllMembersSupplier extends ParameterSupplier {
         return assignments;
     }
 
+    /**
+     * Counts the values of data point fields and {@link DataPoint} methods, but cannot count those of
+     * {@link DataPoints} methods without invoking them.
+     */
+    @Override public long countValueSources(ParameterSignature sig) {
+        for (FrameworkMethod each : getDataPointsMethods(sig)) {
+            if (mightSupply(sig, each)) {
+                return UNKNOWN_COUNT;
+            }
+        }
+
+        List<PotentialAssignment> assignments = new ArrayList<PotentialAssignment>();
+        addSinglePointFields(sig, assignments);
+        addMultiPointFields(sig, assignments);
+        addSinglePointMethods(sig, assignments);
+        return assignments.size();
+    }
+
+    private static boolean mightSupply(ParameterSignature sig, FrameworkMethod dataPointsMethod) {
+        org.javaruntype.type.Type<?> type =
+                Types.forJavaLangReflectType(dataPointsMethod.getMethod().getGenericReturnType());
+
+        return (type.isArray() && sig.canPotentiallyAcceptType(type.getComponentClass())) ||
+                Types.forJavaLangReflectType(Iterable.class).isAssignableFrom(type);
+    }
+
     private void addMultiPointMethods(ParameterSignature sig, List<PotentialAssignment> assignments) throws Throwable {
+        DataPointPool pool = DataPointPool.forClass(fClass);
         for (FrameworkMethod each : getDataPointsMethods(sig)) {
             org.javaruntype.type.Type<?> type = Types.forJavaLangReflectType(each.getMethod().getGenericReturnType());
 
-            if ((type.isArray() && sig.canPotentiallyAcceptType(type.getComponentClass())) ||
-                    Types.forJavaLangReflectType(Iterable.class).isAssignableFrom(type)) {
+            if (mightSupply(sig, each)) {
                 try {
-                    addDataPointsValues(type, sig, each.getName(), assignments, each.invokeExplosively(null));
+                    if (pool.isWarmedUp(each)) {
+                        assignments.addAll(pool.valuesFor(sig, each));
+                    } else {
+                        addDataPointsValues(type, sig, each.getName(), assignments, each.invokeExplosively(null));
+                    }
                 } catch (Throwable e) {
                     DataPoints annotation = each.getAnnotation(DataPoints.class);
                     if (annotation != null && isAssignableToAnyOf(annotation.ignoredExceptions(), e)) {
@@ -84,17 +116,18 @@ public class AllMembersSupplier extends ParameterSupplier {
     }
 
     private void addSinglePointMethods(ParameterSignature sig, List<PotentialAssignment> assignments) {
+        DataPointPool pool = DataPointPool.forClass(fClass);
         for (FrameworkMethod each : getSingleDataPointMethods(sig)) {
             if (sig.canAcceptType(each.getMethod().getGenericReturnType())) {
-                assignments.add(new MethodParameterValue(each));
+                assignments.add(new MethodParameterValue(each, pool));
             }
         }
     }
 
     private void addMultiPointFields(ParameterSignature sig, List<PotentialAssignment> assignments) {
+        DataPointPool pool = DataPointPool.forClass(fClass);
         for (Field each : getDataPointsFields(sig)) {
-            addDataPointsValues(Types.forJavaLangReflectType(each.getGenericType()), sig, each.getName(), assignments,
-                    getStaticFieldValue(each));
+            assignments.addAll(pool.valuesFor(sig, each, getStaticFieldValue(each)));
         }
     }
 
@@ -4,47 +4,161 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.contrib.theories.ParameterSignature;
 import org.junit.contrib.theories.ParameterSupplier;
 import org.junit.contrib.theories.ParametersSuppliedBy;
 import org.junit.contrib.theories.PotentialAssignment;
+import org.junit.contrib.theories.Theory;
+import org.junit.contrib.theories.Unordered;
 import org.junit.runners.model.TestClass;
 
 import static java.util.Collections.*;
 import static org.javaruntype.type.Types.*;
 
 public class Assignments {
+    private static class TheoryParameters implements ValuePrefetcher.Loader, ParameterSpace.Suppliers {
+        final TestClass fClass;
+        final List<ParameterSignature> fSignatures;
+        final int fConstructorParameterCount;
+        final boolean fDeduplicate;
+        final Map<ParameterSignature, ParameterSupplier> fSuppliers =
+                new ConcurrentHashMap<ParameterSignature, ParameterSupplier>();
+        final ValuePrefetcher fPrefetcher = new ValuePrefetcher(this);
+
+        TheoryParameters(Method testMethod, TestClass testClass) {
+            List<ParameterSignature> signatures = ParameterSignature.signatures(testClass.getOnlyConstructor());
+            fConstructorParameterCount = signatures.size();
+            signatures.addAll(ParameterSignature.signatures(testMethod));
+
+            Theory annotation = testMethod.getAnnotation(Theory.class);
+
+            fClass = testClass;
+            fSignatures = unmodifiableList(signatures);
+            fDeduplicate = annotation != null && annotation.deduplicateDataPoints();
+        }
+
+        public List<PotentialAssignment> load(ParameterSignature sig) throws Throwable {
+            return getSupplier(sig).getValueSources(sig);
+        }
+
+        public ParameterSupplier getSupplier(ParameterSignature sig) throws Exception {
+            ParameterSupplier supplier = fSuppliers.get(sig);
+
+            if (supplier == null) {
+                supplier = buildSupplier(sig, fClass);
+                if (!supplier.isStateful()) {
+                    fSuppliers.put(sig, supplier);
+                }
+            }
+
+            return supplier;
+        }
+    }
+
+    static ParameterSupplier buildSupplier(ParameterSignature sig, TestClass testClass) throws Exception {
+        ParametersSuppliedBy annotation = sig.findDeepAnnotation(ParametersSuppliedBy.class);
+
+        return annotation != null
+                ? buildParameterSupplierFromClass(annotation.value(), testClass)
+                : new AllMembersSupplier(testClass);
+    }
+
+    private static ParameterSupplier buildParameterSupplierFromClass(
+            Class<? extends ParameterSupplier> supplierClass, TestClass testClass) throws Exception {
+
+        for (Constructor<?> each : supplierClass.getConstructors()) {
+            Class<?>[] parameterTypes = each.getParameterTypes();
+            if (parameterTypes.length == 1 && TestClass.class.equals(parameterTypes[0])) {
+                return (ParameterSupplier) each.newInstance(testClass);
+            }
+        }
+
+        return supplierClass.newInstance();
+    }
+
+    private final TheoryParameters fParameters;
     private final List<PotentialAssignment> fAssigned;
-    private final List<ParameterSignature> fUnassigned;
-    private final TestClass fClass;
+    private final int fLastAssignedIndex;
+    private final boolean fFinalPrefix;
 
-    private Assignments(List<PotentialAssignment> assigned, List<ParameterSignature> unassigned, TestClass testClass) {
-        fUnassigned = unassigned;
+    private Assignments(TheoryParameters parameters, List<PotentialAssignment> assigned, int lastAssignedIndex,
+            boolean finalPrefix) {
+        fParameters = parameters;
         fAssigned = assigned;
-        fClass = testClass;
+        fLastAssignedIndex = lastAssignedIndex;
+        fFinalPrefix = finalPrefix;
     }
 
     public static Assignments allUnassigned(Method testMethod, TestClass testClass) throws Exception {
-        List<ParameterSignature> signatures = ParameterSignature.signatures(testClass.getOnlyConstructor());
-        signatures.addAll(ParameterSignature.signatures(testMethod));
+        TheoryParameters parameters = new TheoryParameters(testMethod, testClass);
+        for (ParameterSignature each : parameters.fSignatures) {
+            if (isSuppliedAsynchronously(each)) {
+                parameters.fPrefetcher.prefetch(each);
+            }
+        }
 
-        return new Assignments(new ArrayList<PotentialAssignment>(), signatures, testClass);
+        return new Assignments(parameters, new ArrayList<PotentialAssignment>(), -1, true);
+    }
+
+    /**
+     * @return the number of combinations of values the theory would be tried with, counted by the suppliers this
+     * theory uses for its values
+     */
+    public ParameterSpace getParameterSpace() {
+        return ParameterSpace.of(fParameters.fSignatures, fParameters);
     }
 
     public boolean isComplete() {
-        return fUnassigned.size() == 0;
+        return fAssigned.size() == fParameters.fSignatures.size();
     }
 
     public ParameterSignature nextUnassigned() {
-        return fUnassigned.get(0);
+        return fParameters.fSignatures.get(fAssigned.size());
     }
 
     public Assignments assignNext(PotentialAssignment source) {
-        List<PotentialAssignment> assigned = new ArrayList<PotentialAssignment>(fAssigned);
+        return assignNext(source, -1);
+    }
+
+    public Assignments assignNext(PotentialAssignment source, int index) {
+        return assignNext(source, index, false);
+    }
+
+    /**
+     * @param last whether {@code source} is the last value the next unassigned parameter will be given after the
+     * values assigned so far, so that values supplied asynchronously for later parameters need not be loaded again
+     */
+    public Assignments assignNext(PotentialAssignment source, int index, boolean last) {
+        List<PotentialAssignment> assigned = new ArrayList<PotentialAssignment>(fAssigned.size() + 1);
+        assigned.addAll(fAssigned);
         assigned.add(source);
 
-        return new Assignments(assigned, fUnassigned.subList(1, fUnassigned.size()), fClass);
+        return new Assignments(fParameters, assigned, index, fFinalPrefix && last);
+    }
+
+    public int firstPotentialIndexForNextUnassigned() {
+        if (fLastAssignedIndex < 0 || !continuesUnorderedRun(lastAssigned(), nextUnassigned())) {
+            return 0;
+        }
+        return fLastAssignedIndex;
+    }
+
+    private ParameterSignature lastAssigned() {
+        return fParameters.fSignatures.get(fAssigned.size() - 1);
+    }
+
+    /**
+     * @return whether {@code next} draws from the same potential values as {@code previous}, so that both can be
+     * treated as one unordered run: both are {@link Unordered}, have the same type, and carry equal annotations
+     */
+    static boolean continuesUnorderedRun(ParameterSignature previous, ParameterSignature next) {
+        return previous.hasAnnotation(Unordered.class)
+                && next.hasAnnotation(Unordered.class)
+                && previous.getType().equals(next.getType())
+                && previous.getAnnotations().equals(next.getAnnotations());
     }
 
     public Object[] getActualValues(int start, int stop) throws PotentialAssignment.CouldNotGenerateValueException {
@@ -57,48 +171,51 @@ public class Assignments {
 
     public List<PotentialAssignment> potentialsForNextUnassigned() throws Throwable {
         ParameterSignature unassigned = nextUnassigned();
-        List<PotentialAssignment> assignments = getSupplier(unassigned).getValueSources(unassigned);
+        List<PotentialAssignment> assignments = isSuppliedAsynchronously(unassigned)
+                ? fParameters.fPrefetcher.take(unassigned, !fFinalPrefix)
+                : fParameters.load(unassigned);
 
         if (assignments.size() == 0) {
             assignments = generateAssignmentsFromTypeAlone(unassigned);
         }
 
-        return assignments;
+        return fParameters.fDeduplicate ? DistinctValues.of(assignments) : assignments;
+    }
+
+    private static boolean isSuppliedAsynchronously(ParameterSignature sig) {
+        ParametersSuppliedBy annotation = sig.findDeepAnnotation(ParametersSuppliedBy.class);
+        return annotation != null && annotation.async();
     }
 
-    private List<PotentialAssignment> generateAssignmentsFromTypeAlone(ParameterSignature unassigned) {
-        org.javaruntype.type.Type<?> paramType = forJavaLangReflectType(unassigned.getType());
+    public void discardPrefetchedValues() {
+        fParameters.fPrefetcher.discard();
+    }
+
+    private List<PotentialAssignment> generateAssignmentsFromTypeAlone(ParameterSignature unassigned)
+            throws Throwable {
+        ParameterSupplier supplier = supplierForTypeAlone(unassigned);
+        if (supplier == null) {
+            return emptyList();
+        }
+        return supplier.getValueSources(unassigned);
+    }
+
+    static ParameterSupplier supplierForTypeAlone(ParameterSignature sig) {
+        org.javaruntype.type.Type<?> paramType = forJavaLangReflectType(sig.getType());
         Class<?> klass = paramType.getRawClass();
 
         if (klass.isEnum()) {
-            return new EnumSupplier(klass).getValueSources(unassigned);
+            return new EnumSupplier(klass);
         }
         if (Boolean.class.equals(klass) || boolean.class.equals(klass)) {
-            return new BooleanSupplier().getValueSources(unassigned);
+            return new BooleanSupplier();
         }
 
-        return emptyList();
+        return null;
     }
 
-    private ParameterSupplier getSupplier(ParameterSignature unassigned) throws Exception {
-        ParametersSuppliedBy annotation = unassigned.findDeepAnnotation(ParametersSuppliedBy.class);
-
-        return annotation != null
-                ? buildParameterSupplierFromClass(annotation.value())
-                : new AllMembersSupplier(fClass);
-    }
-
-    private ParameterSupplier buildParameterSupplierFromClass(Class<? extends ParameterSupplier> supplierClass)
-            throws Exception {
-
-        for (Constructor<?> each : supplierClass.getConstructors()) {
-            Class<?>[] parameterTypes = each.getParameterTypes();
-            if (parameterTypes.length == 1 && TestClass.class.equals(parameterTypes[0])) {
-                return (ParameterSupplier) each.newInstance(fClass);
-            }
-        }
-
-        return supplierClass.newInstance();
+    public boolean isConstructorBoundary() {
+        return fAssigned.size() == getConstructorParameterCount();
     }
 
     public Object[] getConstructorArguments()
@@ -111,8 +228,7 @@ public class Assignments {
     }
 
     private int getConstructorParameterCount() {
-        List<ParameterSignature> signatures = ParameterSignature.signatures(fClass.getOnlyConstructor());
-        return signatures.size();
+        return fParameters.fConstructorParameterCount;
     }
 
     public Object[] getArgumentStrings() throws PotentialAssignment.CouldNotGenerateValueException {
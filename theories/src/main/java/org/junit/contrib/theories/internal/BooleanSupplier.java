@@ -13,4 +13,8 @@ public class BooleanSupplier extends ParameterSupplier {
                 PotentialAssignment.forValue("true", true),
                 PotentialAssignment.forValue("false", false));
     }
+
+    @Override public long countValueSources(ParameterSignature sig) {
+        return 2;
+    }
 }
@@ -0,0 +1,181 @@
+package org.junit.contrib.theories.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import org.junit.contrib.theories.Theory;
+import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+
+/**
+ * <p>Numbers the combinations of values of a theory by their ordinal, the position in which the runner would try
+ * them, and keeps those of them a {@link Filter} has left to run. The ordinal of a combination follows from the
+ * index of each value within its parameter's values, counted like the digits of a number whose radix at each
+ * position is that parameter's number of values, so the values themselves are needed only to run a
+ * combination.</p>
+ *
+ * <p>Only theories whose values can all be {@linkplain ParameterSpace counted} up front, with neither
+ * {@link org.junit.contrib.theories.Unordered} parameters nor {@linkplain Theory#deduplicateDataPoints()
+ * deduplication}, can be numbered this way.</p>
+ *
+ * <p>JUnit needs the children of a {@link Description} built up front, so {@link #addChildren} makes one for each
+ * combination still selected, and a filter that does not name a single combination is asked about each of them in
+ * turn. The runner only does either for a bounded number of combinations. A filter that names one combination,
+ * the way {@link Filter#matchMethodDescription} does, selects it directly, however many combinations there
+ * are.</p>
+ */
+public class CombinationSelection {
+    private final Class<?> fTestClass;
+    private final String fTheory;
+    private final Annotation[] fAnnotations;
+    private final long[] fValueCounts;
+    private final long[] fStrides;
+    private final long fSize;
+    private NavigableSet<Long> fSelected;
+
+    private CombinationSelection(Class<?> testClass, String theory, Annotation[] annotations, long[] valueCounts,
+            long size) {
+        fTestClass = testClass;
+        fTheory = theory;
+        fAnnotations = annotations;
+        fValueCounts = valueCounts;
+        fSize = size;
+
+        fStrides = new long[valueCounts.length];
+        long stride = 1;
+        for (int i = valueCounts.length - 1; i >= 0; i--) {
+            fStrides[i] = stride;
+            stride *= valueCounts[i];
+        }
+    }
+
+    /**
+     * @return the combinations of {@code theory}, or {@code null} if they cannot be numbered
+     */
+    public static CombinationSelection of(FrameworkMethod theory, TestClass testClass) {
+        Theory annotation = theory.getAnnotation(Theory.class);
+        if (annotation == null || annotation.deduplicateDataPoints()) {
+            return null;
+        }
+
+        ParameterSpace space = ParameterSpace.of(theory, testClass);
+        long[] valueCounts = space.getValueCounts();
+        if (valueCounts.length == 0 || !space.isExact() || space.hasUnorderedParameters()
+                || space.getSize() == 0 || space.getSize() == Long.MAX_VALUE) {
+            return null;
+        }
+
+        return new CombinationSelection(testClass.getJavaClass(), theory.getName(), theory.getAnnotations(),
+                valueCounts, space.getSize());
+    }
+
+    public Description describe(long ordinal) {
+        return Description.createTestDescription(fTestClass, fTheory + "[" + ordinal + "]", fAnnotations);
+    }
+
+    /**
+     * @return the number of combinations still selected
+     */
+    public synchronized long size() {
+        return fSelected == null ? fSize : fSelected.size();
+    }
+
+    /**
+     * Adds a child to {@code theory} for each combination still selected.
+     */
+    public synchronized void addChildren(Description theory) {
+        if (fSelected == null) {
+            for (long ordinal = 0; ordinal < fSize; ordinal++) {
+                theory.addChild(describe(ordinal));
+            }
+        } else {
+            for (Long each : fSelected) {
+                theory.addChild(describe(each));
+            }
+        }
+    }
+
+    /**
+     * @return the ordinal of the one combination {@code filter} names, going by its
+     * {@linkplain Filter#describe() description} in the form {@link Filter#matchMethodDescription} gives it; or
+     * {@code -1} if it names none
+     */
+    public long ordinalNamedBy(Filter filter) {
+        String prefix = "Method " + fTheory + "[";
+        String suffix = "](" + fTestClass.getName() + ")";
+        String described = filter.describe();
+        if (!described.startsWith(prefix) || !described.endsWith(suffix)) {
+            return -1;
+        }
+
+        long ordinal;
+        try {
+            ordinal = Long.parseLong(described.substring(prefix.length(), described.length() - suffix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+        return ordinal >= 0 && ordinal < fSize && filter.shouldRun(describe(ordinal)) ? ordinal : -1;
+    }
+
+    /**
+     * Keeps only the combinations still selected that {@code filter} would run. Unless {@code filter}
+     * {@linkplain #ordinalNamedBy names} a single combination, it is asked about every combination still selected.
+     */
+    public synchronized void restrictTo(Filter filter) {
+        NavigableSet<Long> selected = new TreeSet<Long>();
+        long named = ordinalNamedBy(filter);
+        if (named >= 0) {
+            if (fSelected == null || fSelected.contains(named)) {
+                selected.add(named);
+            }
+        } else if (fSelected == null) {
+            for (long ordinal = 0; ordinal < fSize; ordinal++) {
+                if (filter.shouldRun(describe(ordinal))) {
+                    selected.add(ordinal);
+                }
+            }
+        } else {
+            for (Long each : fSelected) {
+                if (filter.shouldRun(describe(each))) {
+                    selected.add(each);
+                }
+            }
+        }
+        fSelected = selected;
+    }
+
+    public void checkValueCount(int parameter, int values) {
+        if (values != fValueCounts[parameter]) {
+            throw new IllegalStateException("Theory " + fTheory + " was described with " + fValueCounts[parameter]
+                    + " values for parameter #" + parameter + ", but was given " + values);
+        }
+    }
+
+    /**
+     * @return the ordinal of the first combination whose value for {@code parameter} has {@code index}, given the
+     * values of the earlier parameters that led to {@code prefix}
+     */
+    public long ordinal(long prefix, int parameter, int index) {
+        return prefix + index * fStrides[parameter];
+    }
+
+    /**
+     * @return the first index from {@code from} on of a value for {@code parameter} that some selected combination
+     * has, given the values of the earlier parameters that led to {@code prefix}; or the number of values for
+     * {@code parameter} if there is none
+     */
+    public synchronized int nextSelectedIndex(long prefix, int parameter, int from) {
+        if (fSelected == null || from >= fValueCounts[parameter]) {
+            return from;
+        }
+
+        Long next = fSelected.ceiling(ordinal(prefix, parameter, from));
+        if (next == null || next >= ordinal(prefix, parameter, (int) fValueCounts[parameter])) {
+            return (int) fValueCounts[parameter];
+        }
+        return (int) ((next - prefix) / fStrides[parameter]);
+    }
+}
@@ -0,0 +1,91 @@
+package org.junit.contrib.theories.internal;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import org.junit.runners.model.Statement;
+import org.junit.runners.model.TestTimedOutException;
+
+import static java.util.concurrent.TimeUnit.*;
+
+/**
+ * <p>Bounds the time a single theory combination may take. The combination runs on the thread running the theory,
+ * so thread-local state set up by rules and {@code Before} methods is visible to it. A single daemon thread shared
+ * by every theory keeps the deadlines: when a combination overruns, it records where the combination had got to and
+ * interrupts the theory's thread.</p>
+ *
+ * <p>A combination that does not respond to being interrupted runs to its end, and then fails as timed out.</p>
+ */
+public class CombinationWatchdog {
+    private static final ScheduledExecutorService WATCHDOG = DaemonThreads.scheduler("theories-watchdog");
+
+    private CombinationWatchdog() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static Statement withTimeout(final Statement statement, final long timeoutMillis) {
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                Deadline deadline = new Deadline(Thread.currentThread());
+                ScheduledFuture<?> expiry = WATCHDOG.schedule(deadline, timeoutMillis, MILLISECONDS);
+
+                Throwable failure = null;
+                try {
+                    statement.evaluate();
+                } catch (Throwable e) {
+                    failure = e;
+                } finally {
+                    expiry.cancel(false);
+                }
+
+                if (deadline.met()) {
+                    if (failure != null) {
+                        throw failure;
+                    }
+                    return;
+                }
+                throw deadline.timedOut(timeoutMillis);
+            }
+        };
+    }
+
+    private static class Deadline implements Runnable {
+        private final Thread fTheoryThread;
+        private boolean fMet;
+        private boolean fPassed;
+        private StackTraceElement[] fStackTrace;
+
+        Deadline(Thread theoryThread) {
+            fTheoryThread = theoryThread;
+        }
+
+        public synchronized void run() {
+            if (fMet) {
+                return;
+            }
+            fPassed = true;
+            fStackTrace = fTheoryThread.getStackTrace();
+            fTheoryThread.interrupt();
+        }
+
+        /**
+         * @return whether the combination finished before the deadline passed; if it did not, the interrupt meant
+         * for it is cleared so that it cannot reach the combinations after it
+         */
+        synchronized boolean met() {
+            if (!fPassed) {
+                fMet = true;
+                return true;
+            }
+            Thread.interrupted();
+            return false;
+        }
+
+        synchronized Exception timedOut(long timeoutMillis) {
+            Exception exception = new TestTimedOutException(timeoutMillis, MILLISECONDS);
+            exception.setStackTrace(fStackTrace);
+            return exception;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.junit.contrib.theories.internal;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class DaemonThreads {
+    private DaemonThreads() {
+        throw new UnsupportedOperationException();
+    }
+
+    static ExecutorService cachedPool(String namePrefix) {
+        return Executors.newCachedThreadPool(named(namePrefix));
+    }
+
+    static ExecutorService fixedPool(String namePrefix, int threads) {
+        return Executors.newFixedThreadPool(threads, named(namePrefix));
+    }
+
+    static ScheduledExecutorService scheduler(String namePrefix) {
+        return Executors.newSingleThreadScheduledExecutor(named(namePrefix));
+    }
+
+    private static ThreadFactory named(final String namePrefix) {
+        return new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, namePrefix + "-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+}
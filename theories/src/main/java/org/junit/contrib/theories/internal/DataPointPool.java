@@ -0,0 +1,207 @@
+package org.junit.contrib.theories.internal;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.contrib.theories.DataPoint;
+import org.junit.contrib.theories.DataPoints;
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.PotentialAssignment;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+
+/**
+ * <p>Holds the values of the {@link org.junit.contrib.theories.DataPoints} fields of a test class, grouped by their
+ * concrete runtime class. Selecting the values a parameter can accept then takes one type check per group, rather
+ * than one per value, while keeping the values in the order the field gives them.</p>
+ *
+ * <p>The values of a field are read once for each run of a theory, since the array or collection it holds may have
+ * been changed in between, and read again within a run if the field is reassigned.</p>
+ *
+ * <p>Once {@linkplain #warmUp warmed up}, the pool also holds the outcome of every static {@link DataPoint} and
+ * {@link DataPoints} method of the class, each evaluated once, and serves those in place of invoking the
+ * methods again.</p>
+ */
+public class DataPointPool {
+    private static final Map<TestClass, DataPointPool> POOLS = new WeakHashMap<TestClass, DataPointPool>();
+
+    private final Map<Object, SourceValues> fValues = new ConcurrentHashMap<Object, SourceValues>();
+    private final Map<Method, MethodOutcome> fMethodOutcomes = new ConcurrentHashMap<Method, MethodOutcome>();
+
+    private DataPointPool() {
+    }
+
+    public static synchronized DataPointPool forClass(TestClass testClass) {
+        DataPointPool pool = POOLS.get(testClass);
+        if (pool == null) {
+            pool = new DataPointPool();
+            POOLS.put(testClass, pool);
+        }
+        return pool;
+    }
+
+    public List<PotentialAssignment> valuesFor(ParameterSignature sig, Field field, Object fieldValue) {
+        return valuesFor(sig, field, field.getName(), field.getType(), fieldValue);
+    }
+
+    public List<PotentialAssignment> valuesFor(ParameterSignature sig, FrameworkMethod method) throws Throwable {
+        return valuesFor(sig, method.getMethod(), method.getName(), method.getReturnType(), warmedUpValue(method));
+    }
+
+    private List<PotentialAssignment> valuesFor(ParameterSignature sig, Object key, String name,
+            Class<?> declaredType, Object value) {
+        SourceValues values = fValues.get(key);
+        if (values == null || values.source != value) {
+            values = new SourceValues(name, declaredType, value);
+            fValues.put(key, values);
+        }
+        return values.acceptableBy(sig);
+    }
+
+    /**
+     * Forgets the values read from fields, so that they are read afresh when next asked for. Outcomes of warmed-up
+     * methods are kept.
+     */
+    public void forgetFieldValues() {
+        for (Object each : fValues.keySet()) {
+            if (each instanceof Field) {
+                fValues.remove(each);
+            }
+        }
+    }
+
+    public void warmUp(TestClass testClass, int threads) throws InterruptedException {
+        Set<FrameworkMethod> methods = new LinkedHashSet<FrameworkMethod>();
+        methods.addAll(testClass.getAnnotatedMethods(DataPoint.class));
+        methods.addAll(testClass.getAnnotatedMethods(DataPoints.class));
+
+        List<Callable<Void>> evaluations = new ArrayList<Callable<Void>>();
+        for (final FrameworkMethod each : methods) {
+            if (Modifier.isStatic(each.getMethod().getModifiers()) && !isWarmedUp(each)) {
+                evaluations.add(new Callable<Void>() {
+                    public Void call() {
+                        fMethodOutcomes.put(each.getMethod(), MethodOutcome.of(each));
+                        return null;
+                    }
+                });
+            }
+        }
+        if (evaluations.isEmpty()) {
+            return;
+        }
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ExecutorService pool = DaemonThreads.fixedPool("theories-warm-up", Math.min(poolSize, evaluations.size()));
+        try {
+            pool.invokeAll(evaluations);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    public boolean isWarmedUp(FrameworkMethod method) {
+        return fMethodOutcomes.containsKey(method.getMethod());
+    }
+
+    public Object warmedUpValue(FrameworkMethod method) throws Throwable {
+        MethodOutcome outcome = fMethodOutcomes.get(method.getMethod());
+        if (outcome.failure != null) {
+            throw outcome.failure;
+        }
+        return outcome.value;
+    }
+
+    private static class MethodOutcome {
+        final Object value;
+        final Throwable failure;
+
+        private MethodOutcome(Object value, Throwable failure) {
+            this.value = value;
+            this.failure = failure;
+        }
+
+        static MethodOutcome of(FrameworkMethod method) {
+            try {
+                return new MethodOutcome(method.invokeExplosively(null), null);
+            } catch (Throwable e) {
+                return new MethodOutcome(null, e);
+            }
+        }
+    }
+
+    private static class SourceValues {
+        final Object source;
+        private final List<PotentialAssignment> fAll = new ArrayList<PotentialAssignment>();
+        private final List<Integer> fBucketOfValue = new ArrayList<Integer>();
+        private final Map<Class<?>, Integer> fBuckets = new LinkedHashMap<Class<?>, Integer>();
+
+        SourceValues(String name, Class<?> declaredType, Object source) {
+            this.source = source;
+
+            if (declaredType.isArray()) {
+                for (int i = 0, len = Array.getLength(source); i < len; i++) {
+                    add(name + "[" + i + "]", Array.get(source, i));
+                }
+            } else if (Iterable.class.isAssignableFrom(declaredType)) {
+                int i = 0;
+                for (Object each : (Iterable<?>) source) {
+                    add(name + "[" + i + "]", each);
+                    i += 1;
+                }
+            }
+        }
+
+        private void add(String name, Object value) {
+            Class<?> type = value == null ? null : value.getClass();
+
+            Integer bucket = fBuckets.get(type);
+            if (bucket == null) {
+                bucket = fBuckets.size();
+                fBuckets.put(type, bucket);
+            }
+
+            fAll.add(PotentialAssignment.forValue(name, value));
+            fBucketOfValue.add(bucket);
+        }
+
+        List<PotentialAssignment> acceptableBy(ParameterSignature sig) {
+            boolean[] accepted = new boolean[fBuckets.size()];
+            int acceptedCount = 0;
+            for (Map.Entry<Class<?>, Integer> each : fBuckets.entrySet()) {
+                Class<?> type = each.getKey();
+                if (type == null ? sig.canAcceptValue(null) : sig.canAcceptType(type)) {
+                    accepted[each.getValue()] = true;
+                    acceptedCount++;
+                }
+            }
+
+            if (acceptedCount == accepted.length) {
+                return Collections.unmodifiableList(fAll);
+            }
+            if (acceptedCount == 0) {
+                return Collections.emptyList();
+            }
+
+            List<PotentialAssignment> acceptable = new ArrayList<PotentialAssignment>();
+            for (int i = 0; i < fAll.size(); i++) {
+                if (accepted[fBucketOfValue.get(i)]) {
+                    acceptable.add(fAll.get(i));
+                }
+            }
+            return acceptable;
+        }
+    }
+}
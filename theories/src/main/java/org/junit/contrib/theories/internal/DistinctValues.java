@@ -0,0 +1,69 @@
+package org.junit.contrib.theories.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.contrib.theories.PotentialAssignment;
+
+/**
+ * <p>Drops potential assignments whose values equal the value of an earlier assignment in the same list, so that
+ * overlapping data point sources do not multiply the combinations a theory runs. The first assignment of each
+ * value is kept, along with its description.</p>
+ *
+ * <p>Values are compared with {@code equals} and {@code hashCode}. Boxed primitives therefore only match values of
+ * the same wrapper type, and floating point values match bit for bit ({@code NaN} matches itself, {@code 0.0}
+ * does not match {@code -0.0}). Arrays, including arrays of primitives, are compared element by element.
+ * Values from single data point methods, which are produced afresh for each use, and values that cannot be
+ * generated, or whose {@code equals} or {@code hashCode} throws, are always kept.</p>
+ */
+public class DistinctValues {
+    private DistinctValues() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static List<PotentialAssignment> of(List<PotentialAssignment> assignments) {
+        if (assignments.size() < 2) {
+            return assignments;
+        }
+
+        List<PotentialAssignment> distinct = new ArrayList<PotentialAssignment>(assignments.size());
+        Set<ValueKey> seen = new HashSet<ValueKey>();
+
+        for (PotentialAssignment each : assignments) {
+            if (each instanceof AllMembersSupplier.MethodParameterValue || isNew(each, seen)) {
+                distinct.add(each);
+            }
+        }
+
+        return distinct;
+    }
+
+    private static boolean isNew(PotentialAssignment assignment, Set<ValueKey> seen) {
+        try {
+            return seen.add(new ValueKey(assignment.getValue()));
+        } catch (PotentialAssignment.CouldNotGenerateValueException e) {
+            return true;
+        } catch (RuntimeException e) {
+            return true;
+        }
+    }
+
+    private static class ValueKey {
+        private final Object[] value;
+
+        ValueKey(Object value) {
+            this.value = new Object[] { value };
+        }
+
+        @Override public boolean equals(Object other) {
+            return other instanceof ValueKey && Arrays.deepEquals(value, ((ValueKey) other).value);
+        }
+
+        @Override public int hashCode() {
+            return Arrays.deepHashCode(value);
+        }
+    }
+}
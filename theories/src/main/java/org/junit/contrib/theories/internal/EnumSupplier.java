@@ -22,4 +22,8 @@ public class EnumSupplier extends ParameterSupplier {
 
         return assignments;
     }
+
+    @Override public long countValueSources(ParameterSignature sig) {
+        return enumType.getEnumConstants().length;
+    }
 }
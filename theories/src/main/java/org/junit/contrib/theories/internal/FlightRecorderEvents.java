@@ -0,0 +1,144 @@
+package org.junit.contrib.theories.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.junit.contrib.theories.Theories;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+
+/**
+ * <p>The {@link TheoryEvents} of a theory run while the Flight Recorder is recording. Events that no recording has
+ * enabled are neither filled in nor committed, and combinations that are not sampled cost a counter increment.</p>
+ */
+class FlightRecorderEvents extends TheoryEvents {
+    @Name("org.junit.contrib.theories.Theory")
+    @Label("Theory")
+    @Category({ "JUnit", "Theories" })
+    @Description("A theory tried with all its combinations of values")
+    static class TheoryEvent extends Event {
+        @Label("Test Class") String testClass;
+        @Label("Theory") String theory;
+        @Label("Combinations") long combinations;
+        @Label("Successes") long successes;
+        @Label("Rejections") @Description("Combinations that violated an assumption") long rejections;
+    }
+
+    @Name("org.junit.contrib.theories.SupplierResolution")
+    @Label("Theory Supplier Resolution")
+    @Category({ "JUnit", "Theories" })
+    @Description("The values of a theory parameter being resolved by its supplier")
+    static class SupplierResolutionEvent extends Event {
+        @Label("Theory") String theory;
+        @Label("Parameter Type") String parameterType;
+        @Label("Values") int values;
+    }
+
+    @Name("org.junit.contrib.theories.Combination")
+    @Label("Theory Combination")
+    @Category({ "JUnit", "Theories" })
+    @Description("A sampled combination of values a theory was tried with")
+    static class CombinationEvent extends Event {
+        @Label("Theory") String theory;
+        @Label("Ordinal") @Description("The place of the combination in the order the runner tries them")
+        long ordinal;
+        @Label("Outcome") String outcome;
+    }
+
+    private final String fTestClass;
+    private final String fTheory;
+    private final int fSampling;
+    private final TheoryEvent fTheoryEvent = new TheoryEvent();
+    private int fUntilSample;
+
+    private FlightRecorderEvents(String testClass, String theory, int sampling) {
+        fTestClass = testClass;
+        fTheory = theory;
+        fSampling = sampling;
+        fTheoryEvent.begin();
+    }
+
+    static TheoryEvents start(FrameworkMethod theory, TestClass testClass) {
+        if (!FlightRecorder.isAvailable() || !FlightRecorder.isInitialized()
+                || FlightRecorder.getFlightRecorder().getRecordings().isEmpty()) {
+            return DISABLED;
+        }
+
+        int sampling = Integer.getInteger(Theories.JFR_COMBINATION_SAMPLING_PROPERTY,
+                Theories.DEFAULT_JFR_COMBINATION_SAMPLING);
+        return new FlightRecorderEvents(testClass.getName(), theory.getName(), Math.max(1, sampling));
+    }
+
+    @Override public boolean isEnabled() {
+        return true;
+    }
+
+    @Override public Object suppliersStarted() {
+        SupplierResolutionEvent event = new SupplierResolutionEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override public void suppliersRan(Object token, Assignments incomplete, int values) {
+        if (token == null) {
+            return;
+        }
+
+        SupplierResolutionEvent event = (SupplierResolutionEvent) token;
+        event.end();
+        if (event.shouldCommit()) {
+            event.theory = fTheory;
+            event.parameterType = incomplete.nextUnassigned().getType().getTypeName();
+            event.values = values;
+            event.commit();
+        }
+    }
+
+    @Override public Object combinationStarted() {
+        if (fUntilSample > 0) {
+            fUntilSample--;
+            return null;
+        }
+        fUntilSample = fSampling - 1;
+
+        CombinationEvent event = new CombinationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override public void combinationFinished(Object token, long ordinal, String outcome) {
+        if (token == null) {
+            return;
+        }
+
+        CombinationEvent event = (CombinationEvent) token;
+        event.end();
+        if (event.shouldCommit()) {
+            event.theory = fTheory;
+            event.ordinal = ordinal;
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+
+    @Override public void theoryFinished(long combinations, long successes, long rejections) {
+        fTheoryEvent.end();
+        if (fTheoryEvent.shouldCommit()) {
+            fTheoryEvent.testClass = fTestClass;
+            fTheoryEvent.theory = fTheory;
+            fTheoryEvent.combinations = combinations;
+            fTheoryEvent.successes = successes;
+            fTheoryEvent.rejections = rejections;
+            fTheoryEvent.commit();
+        }
+    }
+}
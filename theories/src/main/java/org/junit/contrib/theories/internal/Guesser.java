@@ -0,0 +1,157 @@
+package org.junit.contrib.theories.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hamcrest.BaseDescription;
+import org.hamcrest.Description;
+import org.junit.AssumptionViolatedException;
+import org.junit.contrib.theories.ReguessableValue;
+
+/**
+ * <p>Supplies a stub of an interface whose answers are corrected by the assumptions they fail. The answers are kept
+ * per call, so asking the same question twice gets the same answer. An assumption violated with
+ * {@code assumeThat(answer, matcher)} describes the value it got and then the value it expected; each answer equal to
+ * the value got is replaced by the value expected in the guess that follows.</p>
+ */
+public class Guesser<T> extends ReguessableValue {
+    static class GuessMap extends HashMap<MethodCall, Object> implements InvocationHandler {
+        private static final long serialVersionUID = 1L;
+
+        GuessMap(GuessMap guesses) {
+            super(guesses);
+        }
+
+        GuessMap() {
+        }
+
+        GuessMap replaceGuess(Object oldValue, Object newValue) {
+            GuessMap newGuesses = new GuessMap(this);
+            for (Map.Entry<MethodCall, Object> entry : newGuesses.entrySet()) {
+                Object guess = entry.getValue();
+                if (guess == null ? oldValue == null : guess.equals(oldValue)) {
+                    entry.setValue(newValue);
+                }
+            }
+            return newGuesses;
+        }
+
+        protected Object generateGuess(Class<?> returnType) {
+            if (returnType.equals(String.class)) {
+                return "GUESS" + size();
+            }
+            if (returnType.equals(Integer.class) || returnType.equals(int.class)) {
+                return size();
+            }
+            if (returnType.equals(Long.class) || returnType.equals(long.class)) {
+                return (long) size();
+            }
+            if (returnType.equals(Boolean.class) || returnType.equals(boolean.class)) {
+                return false;
+            }
+            if (returnType.isPrimitive() && !returnType.equals(void.class)) {
+                throw new IllegalArgumentException("Stub cannot guess " + returnType + " answers");
+            }
+            return null;
+        }
+
+        Object getGuess(MethodCall call) {
+            if (!containsKey(call)) {
+                put(call, generateGuess(call.getReturnType()));
+            }
+            return get(call);
+        }
+
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            if (method.getDeclaringClass().equals(Object.class)) {
+                return invokeObjectMethod(proxy, method, args);
+            }
+            return getGuess(new MethodCall(method, args));
+        }
+
+        private Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            return "stub" + this;
+        }
+    }
+
+    private final Class<? extends T> type;
+    private final GuessMap guesses;
+
+    public Guesser(Class<? extends T> type) {
+        this(type, new GuessMap());
+    }
+
+    Guesser(Class<? extends T> type, GuessMap guesses) {
+        this.type = type;
+        this.guesses = guesses;
+    }
+
+    public T getProxy() {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, guesses));
+    }
+
+    @Override public List<ReguessableValue> reguesses(AssumptionViolatedException e) {
+        final List<ReguessableValue> reguesses = new ArrayList<ReguessableValue>();
+        e.describeTo(new BaseDescription() {
+            private boolean gotSeen = false;
+            private Object got = null;
+
+            @Override protected void append(char c) {
+            }
+
+            @Override public Description appendValue(Object value) {
+                noteValue(value);
+                return super.appendValue(value);
+            }
+
+            private void noteValue(Object value) {
+                if (!gotSeen) {
+                    got = value;
+                    gotSeen = true;
+                    return;
+                }
+
+                GuessMap newGuesses = guesses.replaceGuess(got, value);
+                if (!newGuesses.equals(guesses)) {
+                    reguesses.add(new Guesser<T>(type, newGuesses));
+                }
+            }
+        });
+        return reguesses;
+    }
+
+    @Override public Object getValue() throws CouldNotGenerateValueException {
+        return getProxy();
+    }
+
+    public Class<? extends T> getType() {
+        return type;
+    }
+
+    @Override public String getDescription() throws CouldNotGenerateValueException {
+        return "guesser[" + type + "] answering " + guesses;
+    }
+
+    @Override public boolean equals(Object o) {
+        if (!(o instanceof Guesser<?>)) {
+            return false;
+        }
+        Guesser<?> other = (Guesser<?>) o;
+        return type.equals(other.type) && guesses.equals(other.guesses);
+    }
+
+    @Override public int hashCode() {
+        return type.hashCode() * 31 + guesses.hashCode();
+    }
+}
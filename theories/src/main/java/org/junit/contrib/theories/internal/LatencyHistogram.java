@@ -0,0 +1,69 @@
+package org.junit.contrib.theories.internal;
+
+/**
+ * <p>Counts durations in buckets of exponentially growing width, each power of two split into 16 buckets, so that
+ * percentiles can be told to within about 6% from a fixed amount of memory however many durations are counted.</p>
+ */
+class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final long[] fCounts = new long[SUB_BUCKETS * (64 - SUB_BUCKET_BITS + 1)];
+    private long fCount;
+    private long fTotal;
+    private long fMax;
+
+    void record(long nanos) {
+        long value = Math.max(0, nanos);
+        fCounts[bucketOf(value)]++;
+        fCount++;
+        fTotal += value;
+        fMax = Math.max(fMax, value);
+    }
+
+    long getCount() {
+        return fCount;
+    }
+
+    long getTotal() {
+        return fTotal;
+    }
+
+    long getMax() {
+        return fMax;
+    }
+
+    /**
+     * @return the lowest duration of the bucket holding the given percentile, or 0 if nothing was counted
+     */
+    long percentile(double percentile) {
+        long rank = (long) Math.ceil(fCount * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < fCounts.length; i++) {
+            seen += fCounts[i];
+            if (seen >= rank && fCounts[i] > 0) {
+                return Math.min(lowestValueOf(i), fMax);
+            }
+        }
+        return 0;
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS * (shift + 1) + subBucket;
+    }
+
+    private static long lowestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + subBucket) << shift;
+    }
+}
@@ -0,0 +1,69 @@
+package org.junit.contrib.theories.internal;
+
+import org.junit.contrib.theories.PotentialAssignment;
+
+/**
+ * <p>The part of the {@link RunnerStatistics} kept for a single run of a theory. Only the thread running the theory
+ * updates it, and it describes the values of each combination there too, so that JMX clients never run the
+ * {@code toString} of a value or compute a value lazily supplied. Values that cannot be described are shown as such;
+ * the theory runs on as it would without statistics.</p>
+ */
+public class LiveTheoryStatistics {
+    public static final LiveTheoryStatistics DISABLED = new LiveTheoryStatistics(null, null);
+
+    private final RunnerStatistics fRunner;
+    final String fName;
+    volatile long fCombinationsExecuted;
+    volatile long fRejections;
+    volatile String[] fAssignment;
+
+    LiveTheoryStatistics(RunnerStatistics runner, String name) {
+        fRunner = runner;
+        fName = name;
+    }
+
+    public void combinationStarted(Assignments complete) {
+        if (fRunner != null) {
+            fAssignment = describe(complete);
+        }
+    }
+
+    private static String[] describe(Assignments complete) {
+        try {
+            Object[] descriptions = complete.getArgumentStrings();
+            String[] strings = new String[descriptions.length];
+            for (int i = 0; i < descriptions.length; i++) {
+                strings[i] = String.valueOf(descriptions[i]);
+            }
+            return strings;
+        } catch (PotentialAssignment.CouldNotGenerateValueException e) {
+            return cannotDescribe(e);
+        } catch (RuntimeException e) {
+            return cannotDescribe(e);
+        }
+    }
+
+    private static String[] cannotDescribe(Exception e) {
+        return new String[] { "(could not describe values: " + e + ")" };
+    }
+
+    public void combinationFinished() {
+        if (fRunner != null) {
+            fCombinationsExecuted++;
+            fRunner.fCombinationsExecuted.incrementAndGet();
+        }
+    }
+
+    public void rejected() {
+        if (fRunner != null) {
+            fRejections++;
+            fRunner.fRejections.incrementAndGet();
+        }
+    }
+
+    public void finished() {
+        if (fRunner != null) {
+            fRunner.finished(this);
+        }
+    }
+}
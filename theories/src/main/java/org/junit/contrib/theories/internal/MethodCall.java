@@ -1,9 +1,7 @@
-package org.junit.contrib.tests.theories.extendingwithstubs;
+package org.junit.contrib.theories.internal;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 
 public class MethodCall {
     private final Method method;
@@ -11,16 +9,19 @@ public class MethodCall {
 
     public MethodCall(Method method, Object... args) {
         this.method = method;
-        this.args = args;
+        this.args = args == null ? new Object[0] : args;
     }
 
     @Override public boolean equals(Object o) {
+        if (!(o instanceof MethodCall)) {
+            return false;
+        }
         MethodCall call = (MethodCall) o;
         return call.method.equals(method) && Arrays.deepEquals(call.args, args);
     }
 
     @Override public int hashCode() {
-        return 1;
+        return method.hashCode() * 31 + Arrays.deepHashCode(args);
     }
 
     public Class<?> getReturnType() {
@@ -28,21 +29,7 @@ public class MethodCall {
     }
 
     @Override public String toString() {
-        return String.format("%s(%s)", method.getName(), argListString());
-    }
-
-    private String argListString() {
-        if (args == null) {
-            return null;
-        }
-        return argList().toString().substring(1, argList().toString().length() - 1);
-    }
-
-    private List<Object> argList() {
-        ArrayList<Object> list = new ArrayList<Object>();
-        for (Object arg : args) {
-            list.add(new StringableObject(arg));
-        }
-        return list;
+        String argList = Arrays.deepToString(args);
+        return String.format("%s(%s)", method.getName(), argList.substring(1, argList.length() - 1));
     }
 }
@@ -0,0 +1,151 @@
+package org.junit.contrib.theories.internal;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.junit.contrib.theories.Theories;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+
+/**
+ * <p>Collects the {@link TheoryMetrics} of the theories of a class and writes them as a JSON document named after
+ * the class to the metrics directory, {@value Theories#DEFAULT_METRICS_DIRECTORY} unless the system property
+ * {@value Theories#METRICS_DIRECTORY_PROPERTY} says otherwise. Durations are in nanoseconds.</p>
+ */
+public class MetricsReport {
+    private static final Map<TestClass, MetricsReport> REPORTS = new WeakHashMap<TestClass, MetricsReport>();
+
+    private final List<TheoryMetrics> fTheories = new ArrayList<TheoryMetrics>();
+
+    private MetricsReport() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(Theories.METRICS_PROPERTY);
+    }
+
+    private static synchronized MetricsReport forClass(TestClass testClass) {
+        MetricsReport report = REPORTS.get(testClass);
+        if (report == null) {
+            report = new MetricsReport();
+            REPORTS.put(testClass, report);
+        }
+        return report;
+    }
+
+    public static TheoryMetrics startTheory(FrameworkMethod theory, TestClass testClass) {
+        if (!isEnabled()) {
+            return TheoryMetrics.DISABLED;
+        }
+
+        TheoryMetrics metrics = new TheoryMetrics(theory.getName());
+        MetricsReport report = forClass(testClass);
+        synchronized (report) {
+            report.fTheories.add(metrics);
+        }
+        return metrics;
+    }
+
+    public static File write(TestClass testClass) throws IOException {
+        MetricsReport report;
+        synchronized (MetricsReport.class) {
+            report = REPORTS.remove(testClass);
+        }
+        if (report == null) {
+            return null;
+        }
+
+        File directory = new File(System.getProperty(Theories.METRICS_DIRECTORY_PROPERTY,
+                Theories.DEFAULT_METRICS_DIRECTORY));
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Could not create " + directory);
+        }
+
+        File file = new File(directory, testClass.getName() + ".json");
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+        try {
+            synchronized (report) {
+                report.writeJson(testClass.getName(), writer);
+            }
+        } finally {
+            writer.close();
+        }
+        return file;
+    }
+
+    private void writeJson(String className, Writer out) throws IOException {
+        out.write("{\n  \"class\": " + quote(className) + ",\n  \"theories\": [");
+        for (int i = 0; i < fTheories.size(); i++) {
+            out.write(i == 0 ? "\n" : ",\n");
+            writeJson(fTheories.get(i), out);
+        }
+        out.write("\n  ]\n}\n");
+    }
+
+    private static void writeJson(TheoryMetrics metrics, Writer out) throws IOException {
+        LatencyHistogram combinations = metrics.fCombinations;
+        long violations = 0;
+        for (long each : metrics.fAssumptionViolations.values()) {
+            violations += each;
+        }
+
+        out.write("    {\n");
+        out.write("      \"theory\": " + quote(metrics.fTheory) + ",\n");
+        out.write("      \"combinations\": " + combinations.getCount() + ",\n");
+        out.write("      \"successes\": " + metrics.fSuccesses + ",\n");
+        out.write("      \"failures\": " + metrics.fFailures + ",\n");
+        out.write("      \"assumptionViolations\": " + violations + ",\n");
+        out.write("      \"assumptionViolationsByMessage\": {");
+        String separator = "\n";
+        for (Map.Entry<String, Long> each : metrics.fAssumptionViolations.entrySet()) {
+            out.write(separator + "        " + quote(each.getKey()) + ": " + each.getValue());
+            separator = ",\n";
+        }
+        out.write(metrics.fAssumptionViolations.isEmpty() ? "},\n" : "\n      },\n");
+        out.write("      \"combinationNanos\": {\"total\": " + combinations.getTotal()
+                + ", \"p50\": " + combinations.percentile(50)
+                + ", \"p99\": " + combinations.percentile(99)
+                + ", \"max\": " + combinations.getMax() + "},\n");
+        out.write("      \"supplierNanos\": " + metrics.fSupplierNanos + ",\n");
+        out.write("      \"instanceCreationNanos\": " + metrics.fInstanceCreationNanos + "\n");
+        out.write("    }");
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    quoted.append("\\\"");
+                    break;
+                case '\\':
+                    quoted.append("\\\\");
+                    break;
+                case '\n':
+                    quoted.append("\\n");
+                    break;
+                case '\r':
+                    quoted.append("\\r");
+                    break;
+                case '\t':
+                    quoted.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
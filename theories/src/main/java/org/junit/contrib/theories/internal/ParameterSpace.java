@@ -0,0 +1,160 @@
+package org.junit.contrib.theories.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.ParameterSupplier;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+
+/**
+ * <p>The number of combinations of values a theory would be tried with, told from its suppliers without running it:
+ * the product of the number of values for each constructor and method parameter, less the orderings skipped for
+ * {@link org.junit.contrib.theories.Unordered} parameters. Values that would be removed as duplicates are
+ * counted.</p>
+ *
+ * <p>Parameters whose suppliers cannot count their values without computing them are counted as having a single
+ * value, so the size is then a lower bound.</p>
+ *
+ * <p>Counting asks the suppliers of the theory, so {@code DataPoint} fields and methods are read. A running theory is
+ * counted {@linkplain Assignments#getParameterSpace() with its own suppliers}; counting a theory that is not running
+ * builds suppliers of its own and drops them afterwards.</p>
+ */
+public class ParameterSpace {
+    interface Suppliers {
+        ParameterSupplier getSupplier(ParameterSignature sig) throws Exception;
+    }
+
+    private final long fSize;
+    private final List<String> fUncounted;
+    private final long[] fValueCounts;
+    private final boolean fUnordered;
+
+    private ParameterSpace(long size, List<String> uncounted, long[] valueCounts, boolean unordered) {
+        fSize = size;
+        fUncounted = uncounted;
+        fValueCounts = valueCounts;
+        fUnordered = unordered;
+    }
+
+    public static ParameterSpace of(FrameworkMethod theory, final TestClass testClass) {
+        List<ParameterSignature> signatures = ParameterSignature.signatures(testClass.getOnlyConstructor());
+        signatures.addAll(ParameterSignature.signatures(theory.getMethod()));
+
+        return of(signatures, new Suppliers() {
+            public ParameterSupplier getSupplier(ParameterSignature sig) throws Exception {
+                return Assignments.buildSupplier(sig, testClass);
+            }
+        });
+    }
+
+    static ParameterSpace of(List<ParameterSignature> signatures, Suppliers suppliers) {
+        List<String> uncounted = new ArrayList<String>();
+        long[] valueCounts = new long[signatures.size()];
+        boolean unordered = false;
+        long size = 1;
+        int i = 0;
+        while (i < signatures.size()) {
+            long values = count(signatures.get(i), suppliers);
+            valueCounts[i] = values;
+            if (values == ParameterSupplier.UNKNOWN_COUNT) {
+                uncounted.add(describe(signatures.get(i), i));
+                values = 1;
+            }
+
+            int run = 1;
+            while (i + run < signatures.size()
+                    && Assignments.continuesUnorderedRun(signatures.get(i + run - 1), signatures.get(i + run))) {
+                valueCounts[i + run] = valueCounts[i];
+                run++;
+            }
+            unordered |= run > 1;
+
+            size = multiply(size, unorderedSelections(values, run));
+            i += run;
+        }
+
+        return new ParameterSpace(size, Collections.unmodifiableList(uncounted), valueCounts, unordered);
+    }
+
+    private static long count(ParameterSignature sig, Suppliers suppliers) {
+        try {
+            long count = suppliers.getSupplier(sig).countValueSources(sig);
+            if (count == 0) {
+                ParameterSupplier fromType = Assignments.supplierForTypeAlone(sig);
+                return fromType == null ? 0 : fromType.countValueSources(sig);
+            }
+            return count;
+        } catch (Exception e) {
+            return ParameterSupplier.UNKNOWN_COUNT;
+        }
+    }
+
+    private static String describe(ParameterSignature sig, int index) {
+        return "#" + index + " " + sig.getType();
+    }
+
+    /**
+     * @return the number of ways to pick {@code run} of {@code values} values, repeats allowed, order ignored
+     */
+    private static long unorderedSelections(long values, int run) {
+        long selections = 1;
+        for (int k = 1; k <= run; k++) {
+            long next = multiply(selections, values + k - 1);
+            if (next == Long.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            selections = next / k;
+        }
+        return selections;
+    }
+
+    private static long multiply(long a, long b) {
+        if (a != 0 && b > Long.MAX_VALUE / a) {
+            return Long.MAX_VALUE;
+        }
+        return a * b;
+    }
+
+    /**
+     * @return the number of combinations, or a lower bound of it if some parameters could not be counted;
+     * {@link Long#MAX_VALUE} if there are at least that many
+     */
+    public long getSize() {
+        return fSize;
+    }
+
+    public boolean isExact() {
+        return fUncounted.isEmpty();
+    }
+
+    /**
+     * @return descriptions of the parameters whose values could not be counted
+     */
+    public List<String> getUncountedParameters() {
+        return fUncounted;
+    }
+
+    /**
+     * @return the number of values of each parameter, constructor parameters first, with
+     * {@link ParameterSupplier#UNKNOWN_COUNT} for those that could not be counted
+     */
+    public long[] getValueCounts() {
+        return fValueCounts.clone();
+    }
+
+    /**
+     * @return whether some parameters form a run of {@link org.junit.contrib.theories.Unordered} parameters, so that
+     * the size is less than the product of the {@linkplain #getValueCounts() value counts}
+     */
+    public boolean hasUnorderedParameters() {
+        return fUnordered;
+    }
+
+    @Override public String toString() {
+        String size = fSize == Long.MAX_VALUE ? "more than " + Long.MAX_VALUE : String.valueOf(fSize);
+        return isExact() ? size : "at least " + size + " (not counting the values of parameters " + fUncounted + ")";
+    }
+}
@@ -0,0 +1,142 @@
+package org.junit.contrib.theories.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.contrib.theories.ReportTheoryProgress;
+import org.junit.contrib.theories.SlowestCombinations;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.TheoryProgress;
+import org.junit.contrib.theories.TheoryProgressListener;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+
+import static java.util.concurrent.TimeUnit.*;
+
+/**
+ * <p>Counts the combinations a theory has been tried with and passes a {@link TheoryProgress} to its listeners
+ * whenever the reporting interval has passed. Counting a combination takes a clock read and no allocation; nothing
+ * at all is done for theories without listeners.</p>
+ */
+public class ProgressReporter {
+    private final String fTheory;
+    private final List<TheoryProgressListener> fListeners;
+    private final long fIntervalNanos;
+    private final long fTotalCombinations;
+    private final long fStartNanos;
+    private long fLastReportNanos;
+    private long fDone;
+    private long fRejected;
+    private long fFailed;
+
+    private ProgressReporter(String theory, List<TheoryProgressListener> listeners, long intervalNanos,
+            long totalCombinations) {
+        fTheory = theory;
+        fListeners = listeners;
+        fIntervalNanos = intervalNanos;
+        fTotalCombinations = totalCombinations;
+        fStartNanos = System.nanoTime();
+        fLastReportNanos = fStartNanos;
+    }
+
+    public static ProgressReporter forTheory(FrameworkMethod theory, TestClass testClass, Assignments allUnassigned)
+            throws Exception {
+        List<TheoryProgressListener> listeners = new ArrayList<TheoryProgressListener>();
+        long intervalMillis = Theories.DEFAULT_PROGRESS_INTERVAL_MILLIS;
+
+        ReportTheoryProgress annotation = testClass.getJavaClass().getAnnotation(ReportTheoryProgress.class);
+        if (annotation != null) {
+            for (Class<? extends TheoryProgressListener> each : annotation.value()) {
+                listeners.add(each.getConstructor().newInstance());
+            }
+            intervalMillis = annotation.intervalMillis();
+        }
+        if (Boolean.getBoolean(Theories.PROGRESS_PROPERTY)) {
+            listeners.add(new StandardErrorProgressListener());
+        }
+
+        String name = testClass.getJavaClass().getSimpleName() + "." + theory.getName();
+        if (listeners.isEmpty()) {
+            return new ProgressReporter(name, Collections.<TheoryProgressListener>emptyList(), 0, -1);
+        }
+
+        ParameterSpace space = allUnassigned.getParameterSpace();
+        return new ProgressReporter(name, listeners, MILLISECONDS.toNanos(intervalMillis),
+                space.isExact() ? space.getSize() : -1);
+    }
+
+    public void combinationDone(boolean rejected) {
+        if (fListeners.isEmpty()) {
+            return;
+        }
+
+        if (rejected) {
+            fRejected++;
+        }
+        done();
+    }
+
+    public void combinationFailed() {
+        if (fListeners.isEmpty()) {
+            return;
+        }
+
+        fFailed++;
+        done();
+    }
+
+    private void done() {
+        fDone++;
+        long now = System.nanoTime();
+        if (now - fLastReportNanos >= fIntervalNanos) {
+            fLastReportNanos = now;
+            TheoryProgress progress = snapshot(now);
+            for (TheoryProgressListener each : fListeners) {
+                each.progress(progress);
+            }
+        }
+    }
+
+    /**
+     * Tells the listeners the theory has finished, with its {@code slowest} combinations; with no listeners to tell,
+     * prints any slowest combinations to {@code System.err} instead, so that they are not lost.
+     */
+    public void finished(SlowestCombinations slowest) {
+        if (fListeners.isEmpty()) {
+            if (slowest.size() > 0) {
+                System.err.println("[theories] " + fTheory + ", slowest combinations:");
+                printSlowest(slowest);
+            }
+            return;
+        }
+
+        TheoryProgress progress = new TheoryProgress(fTheory, fDone, fRejected, fFailed, fTotalCombinations,
+                System.nanoTime() - fStartNanos, slowest);
+        for (TheoryProgressListener each : fListeners) {
+            each.finished(progress);
+        }
+    }
+
+    private TheoryProgress snapshot(long now) {
+        return new TheoryProgress(fTheory, fDone, fRejected, fFailed, fTotalCombinations, now - fStartNanos,
+                SlowestCombinations.NONE);
+    }
+
+    private static class StandardErrorProgressListener implements TheoryProgressListener {
+        public void progress(TheoryProgress progress) {
+            System.err.println("[theories] " + progress);
+        }
+
+        public void finished(TheoryProgress progress) {
+            System.err.println("[theories] " + progress + ", finished");
+            printSlowest(progress.getSlowestCombinations());
+        }
+    }
+
+    private static void printSlowest(SlowestCombinations slowest) {
+        for (int i = 0; i < slowest.size(); i++) {
+            System.err.println("[theories]   " + slowest.getNanos(i) + "ns " + slowest.getCombination(i));
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package org.junit.contrib.theories.internal;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Serializable;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.junit.contrib.theories.PotentialAssignment;
+import org.junit.contrib.theories.Theories;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+
+/**
+ * <p>Remembers the combinations of values a theory passed with, so that later runs can skip them. Each combination
+ * is known by a fingerprint: a SHA-256 digest of the bytecode of the test class and its superclasses, the signature
+ * of the theory, and a stable serialization of each value. A combination is skipped only if a previous run passed
+ * it with the same fingerprint, so a change to the test class or to a value runs it again. Changes to code the test
+ * class calls into are not seen.</p>
+ *
+ * <p>Values are serialized by their content when they are {@code null}, strings, characters, booleans, numbers or
+ * enum constants from the JDK, arrays of such values, or otherwise {@link Serializable}. Combinations with any
+ * other value have no fingerprint and always run.</p>
+ *
+ * <p>The fingerprints of each theory are kept in a file named after the class and the theory in the result cache
+ * directory, {@value Theories#DEFAULT_RESULT_CACHE_DIRECTORY} unless the system property
+ * {@value Theories#RESULT_CACHE_DIRECTORY_PROPERTY} says otherwise. Theories run while the cache is off get
+ * {@link #DISABLED}, which gives no fingerprints.</p>
+ */
+public class ResultCache {
+    public static final ResultCache DISABLED = new ResultCache(null, null, null);
+
+    private final File fFile;
+    private final String fClassDigest;
+    private final String fTheory;
+    private final Set<String> fPassed = new LinkedHashSet<String>();
+
+    private ResultCache(File file, String classDigest, String theory) {
+        fFile = file;
+        fClassDigest = classDigest;
+        fTheory = theory;
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(Theories.RESULT_CACHE_PROPERTY);
+    }
+
+    public static ResultCache forTheory(FrameworkMethod theory, TestClass testClass) throws IOException {
+        if (!isEnabled()) {
+            return DISABLED;
+        }
+
+        String classDigest = digestClass(testClass.getJavaClass());
+        if (classDigest == null) {
+            return DISABLED;
+        }
+
+        File directory = new File(System.getProperty(Theories.RESULT_CACHE_DIRECTORY_PROPERTY,
+                Theories.DEFAULT_RESULT_CACHE_DIRECTORY));
+        ResultCache cache = new ResultCache(new File(directory, testClass.getName() + "#" + theory.getName()),
+                classDigest, theory.getMethod().toGenericString());
+        cache.read();
+        return cache;
+    }
+
+    private void read() throws IOException {
+        BufferedReader reader;
+        try {
+            reader = new BufferedReader(new InputStreamReader(new FileInputStream(fFile), "UTF-8"));
+        } catch (FileNotFoundException e) {
+            return;
+        }
+
+        try {
+            if (!fClassDigest.equals(reader.readLine())) {
+                return;
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                fPassed.add(line);
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * @return the fingerprint of {@code complete}, or {@code null} if some of its values cannot be serialized
+     */
+    public String fingerprint(Assignments complete) {
+        if (this == DISABLED) {
+            return null;
+        }
+
+        try {
+            MessageDigest digest = sha256();
+            DataOutputStream out = new DataOutputStream(new DigestOutputStream(new NullOutputStream(), digest));
+            out.writeUTF(fClassDigest);
+            out.writeUTF(fTheory);
+            for (Object each : complete.getConstructorArguments()) {
+                if (!writeStable(each, out)) {
+                    return null;
+                }
+            }
+            for (Object each : complete.getMethodArguments()) {
+                if (!writeStable(each, out)) {
+                    return null;
+                }
+            }
+            out.flush();
+            return hex(digest.digest());
+        } catch (PotentialAssignment.CouldNotGenerateValueException e) {
+            return null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public synchronized boolean passedBefore(String fingerprint) {
+        return fPassed.contains(fingerprint);
+    }
+
+    public synchronized void passed(String fingerprint) {
+        fPassed.add(fingerprint);
+    }
+
+    public synchronized void write() throws IOException {
+        if (this == DISABLED) {
+            return;
+        }
+
+        File directory = fFile.getParentFile();
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Could not create " + directory);
+        }
+
+        Writer writer = new OutputStreamWriter(new FileOutputStream(fFile), "UTF-8");
+        try {
+            writer.write(fClassDigest + "\n");
+            for (String each : fPassed) {
+                writer.write(each + "\n");
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static boolean writeStable(Object value, DataOutputStream out) throws IOException {
+        if (value == null) {
+            out.writeUTF("null");
+            return true;
+        }
+
+        Class<?> type = value.getClass();
+        out.writeUTF(type.getName());
+        if (value instanceof String || value instanceof Character || value instanceof Boolean
+                || (value instanceof Number && type.getName().startsWith("java."))) {
+            out.writeUTF(value.toString());
+            return true;
+        }
+        if (value instanceof Enum<?>) {
+            out.writeUTF(((Enum<?>) value).name());
+            return true;
+        }
+        if (type.isArray()) {
+            int length = Array.getLength(value);
+            out.writeInt(length);
+            for (int i = 0; i < length; i++) {
+                if (!writeStable(Array.get(value, i), out)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value instanceof Serializable) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            ObjectOutputStream serialized = new ObjectOutputStream(bytes);
+            try {
+                serialized.writeObject(value);
+            } catch (IOException e) {
+                return false;
+            } finally {
+                serialized.close();
+            }
+            out.writeInt(bytes.size());
+            bytes.writeTo(out);
+            return true;
+        }
+        return false;
+    }
+
+    private static String digestClass(Class<?> testClass) throws IOException {
+        MessageDigest digest = sha256();
+        for (Class<?> each = testClass; each != null && each != Object.class; each = each.getSuperclass()) {
+            ClassLoader loader = each.getClassLoader();
+            InputStream in = loader == null
+                    ? null
+                    : loader.getResourceAsStream(each.getName().replace('.', '/') + ".class");
+            if (in == null) {
+                return null;
+            }
+
+            try {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            } finally {
+                in.close();
+            }
+        }
+        return hex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte each : bytes) {
+            hex.append(Character.forDigit((each >> 4) & 0xf, 16)).append(Character.forDigit(each & 0xf, 16));
+        }
+        return hex.toString();
+    }
+
+    private static class NullOutputStream extends OutputStream {
+        @Override public void write(int b) {
+        }
+
+        @Override public void write(byte[] b, int off, int len) {
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.junit.contrib.theories.internal;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.junit.contrib.theories.Theories;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+
+/**
+ * <p>Keeps the live statistics of the theories run in this JVM and exposes them to JMX clients such as jconsole
+ * through the platform MBean server, once the system property {@value Theories#JMX_PROPERTY} is set and the first
+ * theory starts. When theories run in parallel, the current theory is the one started last of those still
+ * running.</p>
+ *
+ * <p>The argument descriptions of each combination are worked out on the thread running it, before it runs, so
+ * clients only ever read strings. That costs describing the values of every combination while the statistics are
+ * on. Theories run while the statistics are off get {@link LiveTheoryStatistics#DISABLED}, whose methods do
+ * nothing.</p>
+ */
+public class RunnerStatistics implements RunnerStatisticsMXBean {
+    public static final String OBJECT_NAME = "org.junit.contrib.theories:type=RunnerStatistics";
+
+    private static RunnerStatistics sInstance;
+
+    final AtomicLong fCombinationsExecuted = new AtomicLong();
+    final AtomicLong fRejections = new AtomicLong();
+    private final List<LiveTheoryStatistics> fRunning = new ArrayList<LiveTheoryStatistics>();
+
+    private RunnerStatistics() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(Theories.JMX_PROPERTY);
+    }
+
+    private static synchronized RunnerStatistics instance() {
+        if (sInstance == null) {
+            sInstance = new RunnerStatistics();
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(sInstance, new ObjectName(OBJECT_NAME));
+            } catch (JMException e) {
+                System.err.println("WARNING: could not register theory runner statistics as " + OBJECT_NAME + ": "
+                        + e);
+            }
+        }
+        return sInstance;
+    }
+
+    public static LiveTheoryStatistics startTheory(FrameworkMethod theory, TestClass testClass) {
+        if (!isEnabled()) {
+            return LiveTheoryStatistics.DISABLED;
+        }
+
+        RunnerStatistics statistics = instance();
+        LiveTheoryStatistics started = new LiveTheoryStatistics(statistics,
+                testClass.getJavaClass().getSimpleName() + "." + theory.getName());
+        synchronized (statistics) {
+            statistics.fRunning.add(started);
+        }
+        return started;
+    }
+
+    synchronized void finished(LiveTheoryStatistics theory) {
+        fRunning.remove(theory);
+    }
+
+    private synchronized LiveTheoryStatistics current() {
+        return fRunning.isEmpty() ? null : fRunning.get(fRunning.size() - 1);
+    }
+
+    public String getCurrentTheory() {
+        LiveTheoryStatistics current = current();
+        return current == null ? null : current.fName;
+    }
+
+    public long getCurrentTheoryCombinationsExecuted() {
+        LiveTheoryStatistics current = current();
+        return current == null ? 0 : current.fCombinationsExecuted;
+    }
+
+    public long getCurrentTheoryRejections() {
+        LiveTheoryStatistics current = current();
+        return current == null ? 0 : current.fRejections;
+    }
+
+    public String[] getCurrentAssignment() {
+        LiveTheoryStatistics current = current();
+        String[] assignment = current == null ? null : current.fAssignment;
+        return assignment == null ? new String[0] : assignment.clone();
+    }
+
+    public long getCombinationsExecuted() {
+        return fCombinationsExecuted.get();
+    }
+
+    public long getRejections() {
+        return fRejections.get();
+    }
+}
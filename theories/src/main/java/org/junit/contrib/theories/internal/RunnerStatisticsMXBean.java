@@ -0,0 +1,39 @@
+package org.junit.contrib.theories.internal;
+
+/**
+ * <p>What the {@link org.junit.contrib.theories.Theories} runners of this JVM are doing, as seen through JMX under
+ * {@value RunnerStatistics#OBJECT_NAME}.</p>
+ */
+public interface RunnerStatisticsMXBean {
+    /**
+     * @return the theory started most recently and not yet finished, as {@code TestClass.theory}; {@code null} if
+     * none is running
+     */
+    String getCurrentTheory();
+
+    /**
+     * @return the combinations of values the current theory has been tried with so far
+     */
+    long getCurrentTheoryCombinationsExecuted();
+
+    /**
+     * @return the combinations of values of the current theory that violated an assumption so far
+     */
+    long getCurrentTheoryRejections();
+
+    /**
+     * @return descriptions of the values of the combination the current theory was last tried with, constructor
+     * arguments first
+     */
+    String[] getCurrentAssignment();
+
+    /**
+     * @return the combinations of values all theories have been tried with
+     */
+    long getCombinationsExecuted();
+
+    /**
+     * @return the combinations of values of all theories that violated an assumption
+     */
+    long getRejections();
+}
@@ -0,0 +1,75 @@
+package org.junit.contrib.theories.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.junit.contrib.theories.PotentialAssignment;
+import org.junit.contrib.theories.SlowestCombinations;
+
+/**
+ * <p>Keeps the slowest combinations a theory has run with in a heap bounded to the number asked for. Only a
+ * combination slower than the fastest one kept is described, so most combinations cost a comparison.</p>
+ */
+public class SlowestCombinationsReport {
+    private static class Entry implements Comparable<Entry> {
+        final long nanos;
+        final String combination;
+
+        Entry(long nanos, String combination) {
+            this.nanos = nanos;
+            this.combination = combination;
+        }
+
+        public int compareTo(Entry other) {
+            return nanos < other.nanos ? -1 : (nanos == other.nanos ? 0 : 1);
+        }
+    }
+
+    private final String fTheory;
+    private final int fLimit;
+    private final PriorityQueue<Entry> fSlowest;
+
+    public SlowestCombinationsReport(String theory, int limit) {
+        fTheory = theory;
+        fLimit = limit;
+        fSlowest = new PriorityQueue<Entry>(limit);
+    }
+
+    public synchronized void offer(long nanos, Assignments complete) {
+        if (fSlowest.size() == fLimit && nanos <= fSlowest.peek().nanos) {
+            return;
+        }
+
+        fSlowest.add(new Entry(nanos, describe(complete)));
+        if (fSlowest.size() > fLimit) {
+            fSlowest.poll();
+        }
+    }
+
+    private String describe(Assignments complete) {
+        try {
+            return String.format("%s(%s)", fTheory, ParameterizedAssertionError.join(", ",
+                    complete.getArgumentStrings()));
+        } catch (PotentialAssignment.CouldNotGenerateValueException e) {
+            return fTheory + "(?)";
+        }
+    }
+
+    /**
+     * @return the combinations offered so far, slowest first
+     */
+    public synchronized SlowestCombinations snapshot() {
+        List<Entry> slowest = new ArrayList<Entry>(fSlowest);
+        Collections.sort(slowest, Collections.reverseOrder());
+
+        List<String> combinations = new ArrayList<String>(slowest.size());
+        long[] nanos = new long[slowest.size()];
+        for (int i = 0; i < slowest.size(); i++) {
+            combinations.add(slowest.get(i).combination);
+            nanos[i] = slowest.get(i).nanos;
+        }
+        return new SlowestCombinations(combinations, nanos);
+    }
+}
@@ -0,0 +1,75 @@
+package org.junit.contrib.theories.internal;
+
+import org.junit.contrib.theories.Theories;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+
+/**
+ * <p>Emits Java Flight Recorder events for a single theory: one spanning the whole theory, one for each time a
+ * parameter's values are resolved, and one for a sample of its combinations, every
+ * {@value Theories#DEFAULT_JFR_COMBINATION_SAMPLING}th unless the system property
+ * {@value Theories#JFR_COMBINATION_SAMPLING_PROPERTY} says otherwise. Combination events carry the ordinal of the
+ * combination, its place in the order the runner tries them, so they can be told apart from one another.</p>
+ *
+ * <p>Theories started while no recording is running, or on a JVM without the Flight Recorder, get {@link #DISABLED},
+ * whose methods do nothing. Whether the JVM has the Flight Recorder is looked up once, without initializing its
+ * classes. Where it does, including Java 8 builds that ship {@code jdk.jfr}, whether a recording is running is
+ * checked each time a theory starts, which loads and initializes {@code jdk.jfr.FlightRecorder} with the first
+ * theory. Only on JVMs without the Flight Recorder are its classes never loaded.</p>
+ */
+public class TheoryEvents {
+    public static final TheoryEvents DISABLED = new TheoryEvents();
+
+    TheoryEvents() {
+    }
+
+    public static TheoryEvents forTheory(FrameworkMethod theory, TestClass testClass) {
+        if (!FlightRecorderSupport.AVAILABLE) {
+            return DISABLED;
+        }
+        return FlightRecorderEvents.start(theory, testClass);
+    }
+
+    public boolean isEnabled() {
+        return false;
+    }
+
+    /**
+     * @return a token to pass back to {@link #suppliersRan}
+     */
+    public Object suppliersStarted() {
+        return null;
+    }
+
+    public void suppliersRan(Object token, Assignments incomplete, int values) {
+    }
+
+    /**
+     * @return a token to pass back to {@link #combinationFinished}, or {@code null} if the combination about to run
+     * is not sampled
+     */
+    public Object combinationStarted() {
+        return null;
+    }
+
+    public void combinationFinished(Object token, long ordinal, String outcome) {
+    }
+
+    public void theoryFinished(long combinations, long successes, long rejections) {
+    }
+
+    private static class FlightRecorderSupport {
+        static final boolean AVAILABLE = isAvailable();
+
+        private static boolean isAvailable() {
+            try {
+                Class.forName("jdk.jfr.FlightRecorder", false, TheoryEvents.class.getClassLoader());
+                return true;
+            } catch (ClassNotFoundException e) {
+                return false;
+            } catch (LinkageError e) {
+                return false;
+            }
+        }
+    }
+}
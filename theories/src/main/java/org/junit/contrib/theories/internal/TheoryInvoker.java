@@ -0,0 +1,141 @@
+package org.junit.contrib.theories.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+
+/**
+ * <p>Invokes the constructor and method of a single theory. Both are resolved once, as spread
+ * {@link MethodHandle}s, so that each combination does not repeat the access checks and argument handling of
+ * core reflection.</p>
+ *
+ * <p>Failures surface as they would from {@link FrameworkMethod#invokeExplosively(Object, Object...)} and
+ * {@link Constructor#newInstance(Object...)}: exceptions thrown by the theory method propagate unwrapped,
+ * exceptions thrown by the constructor arrive wrapped in an {@link InvocationTargetException}, and arguments
+ * that reflection would refuse cause an {@link IllegalArgumentException}. Members that cannot be looked up
+ * from here are invoked reflectively.</p>
+ */
+public class TheoryInvoker {
+    private static final Map<Class<?>, Set<Class<?>>> WIDENABLE_WRAPPERS = buildWidenableWrappersMap();
+
+    private static Map<Class<?>, Set<Class<?>>> buildWidenableWrappersMap() {
+        Map<Class<?>, Set<Class<?>>> map = new HashMap<Class<?>, Set<Class<?>>>();
+
+        map.put(boolean.class, wrappers(Boolean.class));
+        map.put(byte.class, wrappers(Byte.class));
+        map.put(char.class, wrappers(Character.class));
+        map.put(short.class, wrappers(Short.class, Byte.class));
+        map.put(int.class, wrappers(Integer.class, Character.class, Short.class, Byte.class));
+        map.put(long.class, wrappers(Long.class, Integer.class, Character.class, Short.class, Byte.class));
+        map.put(float.class,
+                wrappers(Float.class, Long.class, Integer.class, Character.class, Short.class, Byte.class));
+        map.put(double.class,
+                wrappers(Double.class, Float.class, Long.class, Integer.class, Character.class, Short.class,
+                        Byte.class));
+
+        return Collections.unmodifiableMap(map);
+    }
+
+    private static Set<Class<?>> wrappers(Class<?>... classes) {
+        return new HashSet<Class<?>>(Arrays.asList(classes));
+    }
+
+    private final FrameworkMethod fMethod;
+    private final Constructor<?> fConstructor;
+    private final MethodHandle fMethodHandle;
+    private final MethodHandle fConstructorHandle;
+    private final Class<?>[] fMethodParameterTypes;
+    private final Class<?>[] fConstructorParameterTypes;
+
+    private TheoryInvoker(FrameworkMethod method, Constructor<?> constructor) {
+        fMethod = method;
+        fConstructor = constructor;
+        fMethodParameterTypes = method.getMethod().getParameterTypes();
+        fConstructorParameterTypes = constructor.getParameterTypes();
+        fMethodHandle = spreadMethod(method.getMethod());
+        fConstructorHandle = spreadConstructor(constructor);
+    }
+
+    public static TheoryInvoker forTheory(FrameworkMethod method, TestClass testClass) {
+        return new TheoryInvoker(method, testClass.getOnlyConstructor());
+    }
+
+    private static MethodHandle spreadMethod(Method method) {
+        int arity = method.getParameterTypes().length;
+        try {
+            return MethodHandles.publicLookup().unreflect(method)
+                    .asType(MethodType.genericMethodType(arity + 1))
+                    .asSpreader(Object[].class, arity);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle spreadConstructor(Constructor<?> constructor) {
+        int arity = constructor.getParameterTypes().length;
+        try {
+            return MethodHandles.publicLookup().unreflectConstructor(constructor)
+                    .asType(MethodType.genericMethodType(arity))
+                    .asSpreader(Object[].class, arity);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    public Object newInstance(Object... args) throws Exception {
+        if (fConstructorHandle == null) {
+            return fConstructor.newInstance(args);
+        }
+
+        checkArguments(fConstructorParameterTypes, args);
+        try {
+            return (Object) fConstructorHandle.invokeExact(args);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    public Object invoke(Object target, Object... args) throws Throwable {
+        if (fMethodHandle == null) {
+            return fMethod.invokeExplosively(target, args);
+        }
+
+        if (target == null) {
+            throw new NullPointerException();
+        }
+        checkArguments(fMethodParameterTypes, args);
+        return (Object) fMethodHandle.invokeExact(target, args);
+    }
+
+    private static void checkArguments(Class<?>[] parameterTypes, Object[] args) {
+        if (args.length != parameterTypes.length) {
+            throw new IllegalArgumentException("wrong number of arguments");
+        }
+
+        for (int i = 0; i < args.length; i++) {
+            if (!canPassAsArgument(parameterTypes[i], args[i])) {
+                throw new IllegalArgumentException("argument type mismatch");
+            }
+        }
+    }
+
+    private static boolean canPassAsArgument(Class<?> parameterType, Object arg) {
+        if (!parameterType.isPrimitive()) {
+            return arg == null || parameterType.isInstance(arg);
+        }
+
+        return arg != null && WIDENABLE_WRAPPERS.get(parameterType).contains(arg.getClass());
+    }
+}
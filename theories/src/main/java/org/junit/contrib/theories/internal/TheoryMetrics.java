@@ -0,0 +1,88 @@
+package org.junit.contrib.theories.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.AssumptionViolatedException;
+
+/**
+ * <p>Records how a single theory spent its time: how many combinations of values it was tried with and how each
+ * ended, how long each took, and how much of the time went to suppliers and to creating test instances. Theories
+ * run while metrics are off get {@link #DISABLED}, whose methods do nothing, not even reading the clock.</p>
+ *
+ * <p>At most {@value #MAX_DISTINCT_ASSUMPTIONS} distinct assumption messages are kept; further ones are counted
+ * together as {@value #OTHER_ASSUMPTIONS}.</p>
+ */
+public class TheoryMetrics {
+    public static final TheoryMetrics DISABLED = new TheoryMetrics(null);
+
+    static final int MAX_DISTINCT_ASSUMPTIONS = 100;
+    static final String OTHER_ASSUMPTIONS = "(other)";
+
+    final String fTheory;
+    final LatencyHistogram fCombinations = new LatencyHistogram();
+    final Map<String, Long> fAssumptionViolations = new LinkedHashMap<String, Long>();
+    long fSuccesses;
+    long fFailures;
+    long fSupplierNanos;
+    long fInstanceCreationNanos;
+
+    TheoryMetrics(String theory) {
+        fTheory = theory;
+    }
+
+    public boolean isEnabled() {
+        return this != DISABLED;
+    }
+
+    /**
+     * @return a time to pass back to one of the methods taking {@code startNanos}
+     */
+    public long start() {
+        return isEnabled() ? System.nanoTime() : 0;
+    }
+
+    public void combinationTook(long nanos) {
+        if (isEnabled()) {
+            fCombinations.record(nanos);
+        }
+    }
+
+    public void suppliersRan(long startNanos) {
+        if (isEnabled()) {
+            fSupplierNanos += System.nanoTime() - startNanos;
+        }
+    }
+
+    public void instanceCreated(long startNanos) {
+        if (isEnabled()) {
+            fInstanceCreationNanos += System.nanoTime() - startNanos;
+        }
+    }
+
+    public void succeeded() {
+        if (isEnabled()) {
+            fSuccesses++;
+        }
+    }
+
+    public void failed() {
+        if (isEnabled()) {
+            fFailures++;
+        }
+    }
+
+    public void assumptionViolated(AssumptionViolatedException e) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        String message = String.valueOf(e.getMessage());
+        if (!fAssumptionViolations.containsKey(message)
+                && fAssumptionViolations.size() >= MAX_DISTINCT_ASSUMPTIONS) {
+            message = OTHER_ASSUMPTIONS;
+        }
+        Long count = fAssumptionViolations.get(message);
+        fAssumptionViolations.put(message, count == null ? 1 : count + 1);
+    }
+}
@@ -0,0 +1,86 @@
+package org.junit.contrib.theories.internal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.PotentialAssignment;
+
+/**
+ * <p>Computes the potential values of parameters ahead of time, on background threads. Each time the values of a
+ * parameter are taken, the values it will need for the next assignment of the preceding parameters start loading,
+ * so that slow suppliers work while the runner executes combinations. Once the preceding parameters have been given
+ * their last values, nothing more is loaded.</p>
+ */
+class ValuePrefetcher {
+    interface Loader {
+        List<PotentialAssignment> load(ParameterSignature sig) throws Throwable;
+    }
+
+    private static class LoadFailure extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        LoadFailure(Throwable cause) {
+            super(cause);
+        }
+    }
+
+    private static final ExecutorService LOADERS = DaemonThreads.cachedPool("theories-prefetch");
+
+    private final Loader fLoader;
+    private final Map<ParameterSignature, Future<List<PotentialAssignment>>> fPending =
+            new ConcurrentHashMap<ParameterSignature, Future<List<PotentialAssignment>>>();
+
+    ValuePrefetcher(Loader loader) {
+        fLoader = loader;
+    }
+
+    void prefetch(final ParameterSignature sig) {
+        fPending.put(sig, LOADERS.submit(new Callable<List<PotentialAssignment>>() {
+            public List<PotentialAssignment> call() throws Exception {
+                try {
+                    return fLoader.load(sig);
+                } catch (Exception e) {
+                    throw e;
+                } catch (Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new LoadFailure(e);
+                }
+            }
+        }));
+    }
+
+    List<PotentialAssignment> take(ParameterSignature sig, boolean takenAgain) throws Throwable {
+        Future<List<PotentialAssignment>> pending = fPending.remove(sig);
+
+        try {
+            return pending == null ? fLoader.load(sig) : await(pending);
+        } finally {
+            if (takenAgain) {
+                prefetch(sig);
+            }
+        }
+    }
+
+    private static List<PotentialAssignment> await(Future<List<PotentialAssignment>> pending) throws Throwable {
+        try {
+            return pending.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof LoadFailure ? cause.getCause() : cause;
+        }
+    }
+
+    void discard() {
+        for (Future<List<PotentialAssignment>> each : fPending.values()) {
+            each.cancel(true);
+        }
+        fPending.clear();
+    }
+}
@@ -0,0 +1,69 @@
+package org.junit.contrib.theories.suppliers;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.junit.contrib.theories.ParametersSuppliedBy;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * <p>Marking a {@link Theory} method parameter with this annotation causes it to be supplied with values read from
+ * the given file when run as a theory by the {@link Theories} runner. The file is memory-mapped rather than read into
+ * memory, and each value is only decoded from it when the runner asks for it, so large corpora of inputs can be kept
+ * outside the test code.</p>
+ *
+ * <pre>
+ * &#064;Theory
+ * public void parsesEveryKnownUserAgent(&#064;DataPointsFrom(file = "src/test/data/user-agents.txt") String agent) {
+ *     ...
+ * }
+ *
+ * &#064;Theory
+ * public void decodesEveryCapturedFrame(
+ *         &#064;DataPointsFrom(file = "src/test/data/frames.bin", format = FIXED_RECORDS, recordLength = 64)
+ *         ByteBuffer frame) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * <p>A relative file name is resolved against the working directory of the test run. Files larger than 2GB are not
+ * supported.</p>
+ */
+@Retention(RUNTIME)
+@Target(PARAMETER)
+@ParametersSuppliedBy(DataPointsFromSupplier.class)
+public @interface DataPointsFrom {
+    enum Format {
+        /**
+         * Each line of the file, without its terminator, is a {@code String} value. Lines end with {@code \n} or
+         * {@code \r\n}.
+         */
+        LINES,
+
+        /**
+         * Each run of {@link DataPointsFrom#recordLength()} bytes is a value: a {@code byte[]} copy of the record for
+         * {@code byte[]} parameters, and a read-only {@code ByteBuffer} over the mapped file for any other.
+         */
+        FIXED_RECORDS
+    }
+
+    String file();
+
+    Format format() default Format.LINES;
+
+    /**
+     * @return the length in bytes of each record of a {@link Format#FIXED_RECORDS} file
+     */
+    int recordLength() default 0;
+
+    /**
+     * @return the name of the charset {@link Format#LINES} files are encoded in. It must encode {@code \r} and
+     * {@code \n} as the single bytes ASCII does, as UTF-8 and the ISO-8859 charsets do; charsets such as UTF-16 and
+     * UTF-32 are rejected
+     */
+    String charset() default "UTF-8";
+}
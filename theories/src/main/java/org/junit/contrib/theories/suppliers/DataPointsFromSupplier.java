@@ -0,0 +1,221 @@
+package org.junit.contrib.theories.suppliers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.ParameterSupplier;
+import org.junit.contrib.theories.PotentialAssignment;
+
+import static java.lang.String.format;
+
+/**
+ * <p>Supplies the values of a {@link DataPointsFrom} file. The values are a view over the mapped file: finding the
+ * lines of a {@link DataPointsFrom.Format#LINES} file takes one pass over its bytes and keeps only where each line
+ * starts, and the text of a line or the bytes of a record are read from the mapping each time a value is asked for.
+ * Lines are split before they are decoded, which is why their charset must encode {@code \r} and {@code \n} as the
+ * single bytes ASCII does.</p>
+ *
+ * <p>The values of each signature are kept and given again each time they are asked for, until the file's length or
+ * modification time changes, so a file is mapped and its lines found once rather than once for each assignment of
+ * the parameters before it.</p>
+ */
+public class DataPointsFromSupplier extends ParameterSupplier {
+    private final Map<ParameterSignature, MappedValues> fValues =
+            new ConcurrentHashMap<ParameterSignature, MappedValues>();
+
+    @Override public List<PotentialAssignment> getValueSources(ParameterSignature sig) throws IOException {
+        DataPointsFrom source = sig.getAnnotation(DataPointsFrom.class);
+        File file = new File(source.file());
+        long length = file.length();
+        long lastModified = file.lastModified();
+
+        MappedValues values = fValues.get(sig);
+        if (values == null || values.fLength != length || values.fLastModified != lastModified) {
+            values = new MappedValues(length, lastModified, valuesOf(source, file, byte[].class.equals(sig.getType())));
+            fValues.put(sig, values);
+        }
+        return values.fValues;
+    }
+
+    private static List<PotentialAssignment> valuesOf(DataPointsFrom source, File file, boolean copy)
+            throws IOException {
+        ByteBuffer contents = map(file);
+
+        switch (source.format()) {
+            case FIXED_RECORDS:
+                return new Records(file.getName(), contents, source.recordLength(), copy);
+            default:
+                return new Lines(file.getName(), contents, Charset.forName(source.charset()));
+        }
+    }
+
+    /**
+     * Counts the records of a {@link DataPointsFrom.Format#FIXED_RECORDS} file from its length, but cannot count the
+     * lines of a {@link DataPointsFrom.Format#LINES} file without reading it.
+     */
+    @Override public long countValueSources(ParameterSignature sig) {
+        DataPointsFrom source = sig.getAnnotation(DataPointsFrom.class);
+        if (source.format() != DataPointsFrom.Format.FIXED_RECORDS || source.recordLength() <= 0) {
+            return UNKNOWN_COUNT;
+        }
+        return new File(source.file()).length() / source.recordLength();
+    }
+
+    private static ByteBuffer map(File file) throws IOException {
+        RandomAccessFile input = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = input.getChannel();
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("DataPointsFrom file " + file + " is larger than 2GB");
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return mapped.asReadOnlyBuffer();
+        } finally {
+            input.close();
+        }
+    }
+
+    private static class MappedValues {
+        final long fLength;
+        final long fLastModified;
+        final List<PotentialAssignment> fValues;
+
+        MappedValues(long length, long lastModified, List<PotentialAssignment> values) {
+            fLength = length;
+            fLastModified = lastModified;
+            fValues = values;
+        }
+    }
+
+    private static ByteBuffer slice(ByteBuffer contents, int start, int end) {
+        ByteBuffer slice = contents.duplicate();
+        slice.limit(end).position(start);
+        return slice.slice();
+    }
+
+    private static class Lines extends AbstractList<PotentialAssignment> {
+        private final String fName;
+        private final ByteBuffer fContents;
+        private final Charset fCharset;
+        private int[] fStarts = new int[64];
+        private int fCount;
+
+        Lines(String name, ByteBuffer contents, Charset charset) {
+            if (!charset.canEncode() || !Arrays.equals("\r\n".getBytes(charset), new byte[] { '\r', '\n' })) {
+                throw new IllegalArgumentException("DataPointsFrom file " + name + " is in " + charset
+                        + ", which does not encode line terminators as single ASCII bytes");
+            }
+
+            fName = name;
+            fContents = contents;
+            fCharset = charset;
+
+            int limit = contents.limit();
+            for (int i = 0; i < limit; i++) {
+                if (i == 0 || contents.get(i - 1) == '\n') {
+                    addStart(i);
+                }
+            }
+        }
+
+        private void addStart(int start) {
+            if (fCount == fStarts.length) {
+                fStarts = Arrays.copyOf(fStarts, fCount * 2);
+            }
+            fStarts[fCount++] = start;
+        }
+
+        @Override public int size() {
+            return fCount;
+        }
+
+        @Override public PotentialAssignment get(final int index) {
+            if (index < 0 || index >= fCount) {
+                throw new IndexOutOfBoundsException("line " + index + " of " + fCount);
+            }
+
+            return new PotentialAssignment() {
+                @Override public Object getValue() {
+                    return line(index);
+                }
+
+                @Override public String getDescription() {
+                    return format("\"%s\" <from %s line %d>", line(index), fName, index + 1);
+                }
+            };
+        }
+
+        private String line(int index) {
+            int start = fStarts[index];
+            int end = index + 1 < fCount ? fStarts[index + 1] : fContents.limit();
+            if (end > start && fContents.get(end - 1) == '\n') {
+                end--;
+            }
+            if (end > start && fContents.get(end - 1) == '\r') {
+                end--;
+            }
+            return fCharset.decode(slice(fContents, start, end)).toString();
+        }
+    }
+
+    private static class Records extends AbstractList<PotentialAssignment> {
+        private final String fName;
+        private final ByteBuffer fContents;
+        private final int fRecordLength;
+        private final boolean fCopy;
+
+        Records(String name, ByteBuffer contents, int recordLength, boolean copy) {
+            if (recordLength <= 0) {
+                throw new IllegalArgumentException("DataPointsFrom file " + name + " needs a positive recordLength");
+            }
+            if (contents.limit() % recordLength != 0) {
+                throw new IllegalArgumentException("DataPointsFrom file " + name + " is not a whole number of "
+                        + recordLength + "-byte records");
+            }
+
+            fName = name;
+            fContents = contents;
+            fRecordLength = recordLength;
+            fCopy = copy;
+        }
+
+        @Override public int size() {
+            return fContents.limit() / fRecordLength;
+        }
+
+        @Override public PotentialAssignment get(final int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("record " + index + " of " + size());
+            }
+
+            final int offset = index * fRecordLength;
+            return new PotentialAssignment() {
+                @Override public Object getValue() {
+                    ByteBuffer record = slice(fContents, offset, offset + fRecordLength);
+                    if (!fCopy) {
+                        return record;
+                    }
+
+                    byte[] bytes = new byte[fRecordLength];
+                    record.get(bytes);
+                    return bytes;
+                }
+
+                @Override public String getDescription() {
+                    return format("record %d <from %s offset %d>", index, fName, offset);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.junit.contrib.theories.suppliers;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.ParameterSupplier;
+import org.junit.contrib.theories.PotentialAssignment;
+
+import static java.lang.String.format;
+
+/**
+ * <p>Base for suppliers of generated values. The values are a view over a seeded sequence rather than a list of
+ * samples: each value is generated when the runner asks for it, from a {@link Random} seeded with the supplier's
+ * seed and the value's position, so any value can be generated again on its own and a run can be reproduced by
+ * reusing its seed.</p>
+ */
+public abstract class GeneratingSupplier extends ParameterSupplier {
+    /**
+     * Generates a single value for a parameter.
+     */
+    protected interface Generator {
+        Object generate(Random random);
+    }
+
+    public static final String ALPHANUMERIC = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    @Override public abstract List<PotentialAssignment> getValueSources(ParameterSignature sig);
+
+    @Override public long countValueSources(ParameterSignature sig) {
+        return getValueSources(sig).size();
+    }
+
+    protected static List<PotentialAssignment> samples(String name, long seed, int count, Generator generator) {
+        if (count < 0) {
+            throw new IllegalArgumentException(name + " samples must not be negative, not " + count);
+        }
+        return new Samples(name, seed, count, generator);
+    }
+
+    protected static void checkAccepts(ParameterSignature sig, Class<?> type, String name) {
+        if (!sig.canAcceptType(type)) {
+            throw new IllegalArgumentException(name + " supplies " + type.getSimpleName() + " values, which "
+                    + sig.getType() + " parameters cannot accept");
+        }
+    }
+
+    protected static long nextLong(Random random, long min, long max) {
+        long range = max - min + 1;
+        if (range <= 0) {
+            long value = random.nextLong();
+            while (value < min || value > max) {
+                value = random.nextLong();
+            }
+            return value;
+        }
+
+        long bits;
+        long value;
+        do {
+            bits = random.nextLong() >>> 1;
+            value = bits % range;
+        } while (bits - value + (range - 1) < 0);
+        return min + value;
+    }
+
+    protected static int nextInt(Random random, int min, int max) {
+        return (int) nextLong(random, min, max);
+    }
+
+    protected static String nextString(Random random, String alphabet, int minLength, int maxLength) {
+        char[] chars = new char[nextInt(random, minLength, maxLength)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+        }
+        return new String(chars);
+    }
+
+    protected static Object nextConstant(Random random, Class<?> enumType) {
+        Object[] constants = enumType.getEnumConstants();
+        return constants[random.nextInt(constants.length)];
+    }
+
+    protected static void checkBounds(String name, long min, long max) {
+        if (min > max) {
+            throw new IllegalArgumentException(name + " min " + min + " is greater than max " + max);
+        }
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static class Samples extends AbstractList<PotentialAssignment> {
+        private final String fName;
+        private final long fSeed;
+        private final int fCount;
+        private final Generator fGenerator;
+
+        Samples(String name, long seed, int count, Generator generator) {
+            fName = name;
+            fSeed = seed;
+            fCount = count;
+            fGenerator = generator;
+        }
+
+        @Override public int size() {
+            return fCount;
+        }
+
+        @Override public PotentialAssignment get(final int index) {
+            if (index < 0 || index >= fCount) {
+                throw new IndexOutOfBoundsException("sample " + index + " of " + fCount);
+            }
+
+            return new PotentialAssignment() {
+                @Override public Object getValue() {
+                    return fGenerator.generate(new Random(mix(fSeed + (index + 1) * GOLDEN_GAMMA)));
+                }
+
+                @Override public String getDescription() {
+                    return format("\"%s\" <from %s[%d] with seed %d>", getValue(), fName, index, fSeed);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.junit.contrib.theories.suppliers;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.junit.contrib.theories.ParametersSuppliedBy;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * <p>Marking a {@link Theory} method enum parameter with this annotation causes it to be supplied with
+ * {@code samples} constants of the enum, each picked pseudo-randomly, when run as a theory by the {@link Theories}
+ * runner. Unlike the constants the runner supplies for unannotated enum parameters, these can be drawn for several
+ * parameters without trying every combination of them.</p>
+ *
+ * @see GeneratingSupplier
+ */
+@Retention(RUNTIME)
+@Target(PARAMETER)
+@ParametersSuppliedBy(RandomEnumsSupplier.class)
+public @interface RandomEnums {
+    /**
+     * @return how many values to supply
+     */
+    int samples() default 100;
+
+    /**
+     * @return the seed the values are generated from; the same seed always gives the same values
+     */
+    long seed() default 0;
+}
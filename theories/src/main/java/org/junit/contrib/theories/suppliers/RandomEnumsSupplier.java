@@ -0,0 +1,23 @@
+package org.junit.contrib.theories.suppliers;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.PotentialAssignment;
+
+public class RandomEnumsSupplier extends GeneratingSupplier {
+    @Override public List<PotentialAssignment> getValueSources(ParameterSignature sig) {
+        RandomEnums spec = sig.getAnnotation(RandomEnums.class);
+        if (!(sig.getType() instanceof Class<?>) || !((Class<?>) sig.getType()).isEnum()) {
+            throw new IllegalArgumentException("RandomEnums supplies only enum parameters, not " + sig.getType());
+        }
+        final Class<?> enumType = (Class<?>) sig.getType();
+
+        return samples(enumType.getSimpleName(), spec.seed(), spec.samples(), new Generator() {
+            public Object generate(Random random) {
+                return nextConstant(random, enumType);
+            }
+        });
+    }
+}
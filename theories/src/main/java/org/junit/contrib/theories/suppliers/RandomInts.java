@@ -0,0 +1,44 @@
+package org.junit.contrib.theories.suppliers;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.junit.contrib.theories.ParametersSuppliedBy;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * <p>Marking a {@link Theory} method {@code int} parameter with this annotation causes it to be supplied with
+ * {@code samples} pseudo-random values from {@code min} to {@code max}, both inclusive, when run as a theory by the
+ * {@link Theories} runner.</p>
+ *
+ * <pre>
+ * &#064;Theory
+ * public void absoluteValueIsNeverNegative(&#064;RandomInts(min = -1000, max = 1000, samples = 500) int x) {
+ *     assertTrue(Math.abs(x) &gt;= 0);
+ * }
+ * </pre>
+ *
+ * @see GeneratingSupplier
+ */
+@Retention(RUNTIME)
+@Target(PARAMETER)
+@ParametersSuppliedBy(RandomIntsSupplier.class)
+public @interface RandomInts {
+    int min() default Integer.MIN_VALUE;
+
+    int max() default Integer.MAX_VALUE;
+
+    /**
+     * @return how many values to supply
+     */
+    int samples() default 100;
+
+    /**
+     * @return the seed the values are generated from; the same seed always gives the same values
+     */
+    long seed() default 0;
+}
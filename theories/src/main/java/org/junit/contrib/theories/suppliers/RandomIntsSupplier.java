@@ -0,0 +1,21 @@
+package org.junit.contrib.theories.suppliers;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.PotentialAssignment;
+
+public class RandomIntsSupplier extends GeneratingSupplier {
+    @Override public List<PotentialAssignment> getValueSources(ParameterSignature sig) {
+        final RandomInts spec = sig.getAnnotation(RandomInts.class);
+        checkAccepts(sig, int.class, "RandomInts");
+        checkBounds("RandomInts", spec.min(), spec.max());
+
+        return samples("ints", spec.seed(), spec.samples(), new Generator() {
+            public Object generate(Random random) {
+                return nextInt(random, spec.min(), spec.max());
+            }
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package org.junit.contrib.theories.suppliers;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.junit.contrib.theories.ParametersSuppliedBy;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * <p>Marking a {@link Theory} method {@code List} parameter with this annotation causes it to be supplied with
+ * {@code samples} pseudo-random lists of {@code minSize} to {@code maxSize} elements when run as a theory by the
+ * {@link Theories} runner. The elements are generated according to the element type of the parameter, which may be
+ * {@code Integer}, {@code Long}, {@code Boolean}, {@code String} or an enum: numbers may take any value, and strings
+ * are alphanumeric and up to 16 characters long.</p>
+ *
+ * <pre>
+ * &#064;Theory
+ * public void sortingIsIdempotent(&#064;RandomLists(maxSize = 50) List&lt;Integer&gt; values) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @see GeneratingSupplier
+ */
+@Retention(RUNTIME)
+@Target(PARAMETER)
+@ParametersSuppliedBy(RandomListsSupplier.class)
+public @interface RandomLists {
+    int minSize() default 0;
+
+    int maxSize() default 10;
+
+    /**
+     * @return how many values to supply
+     */
+    int samples() default 100;
+
+    /**
+     * @return the seed the values are generated from; the same seed always gives the same values
+     */
+    long seed() default 0;
+}
@@ -0,0 +1,82 @@
+package org.junit.contrib.theories.suppliers;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.PotentialAssignment;
+
+public class RandomListsSupplier extends GeneratingSupplier {
+    @Override public List<PotentialAssignment> getValueSources(ParameterSignature sig) {
+        final RandomLists spec = sig.getAnnotation(RandomLists.class);
+        Type type = sig.getType();
+        Type rawType = type instanceof ParameterizedType ? ((ParameterizedType) type).getRawType() : type;
+        if (!(rawType instanceof Class<?>) || !((Class<?>) rawType).isAssignableFrom(ArrayList.class)) {
+            throw new IllegalArgumentException("RandomLists supplies only List parameters, not " + type);
+        }
+        checkBounds("RandomLists", spec.minSize(), spec.maxSize());
+        if (spec.minSize() < 0) {
+            throw new IllegalArgumentException("RandomLists minSize must not be negative, not " + spec.minSize());
+        }
+        final Generator elements = elementGenerator(type);
+
+        return samples("lists", spec.seed(), spec.samples(), new Generator() {
+            public Object generate(Random random) {
+                int size = nextInt(random, spec.minSize(), spec.maxSize());
+                List<Object> list = new ArrayList<Object>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(elements.generate(random));
+                }
+                return list;
+            }
+        });
+    }
+
+    private static Generator elementGenerator(Type listType) {
+        Type elementType = listType instanceof ParameterizedType
+                ? ((ParameterizedType) listType).getActualTypeArguments()[0]
+                : null;
+
+        if (Integer.class.equals(elementType)) {
+            return new Generator() {
+                public Object generate(Random random) {
+                    return random.nextInt();
+                }
+            };
+        }
+        if (Long.class.equals(elementType)) {
+            return new Generator() {
+                public Object generate(Random random) {
+                    return random.nextLong();
+                }
+            };
+        }
+        if (Boolean.class.equals(elementType)) {
+            return new Generator() {
+                public Object generate(Random random) {
+                    return random.nextBoolean();
+                }
+            };
+        }
+        if (String.class.equals(elementType)) {
+            return new Generator() {
+                public Object generate(Random random) {
+                    return nextString(random, ALPHANUMERIC, 0, 16);
+                }
+            };
+        }
+        if (elementType instanceof Class<?> && ((Class<?>) elementType).isEnum()) {
+            final Class<?> enumType = (Class<?>) elementType;
+            return new Generator() {
+                public Object generate(Random random) {
+                    return nextConstant(random, enumType);
+                }
+            };
+        }
+
+        throw new IllegalArgumentException("RandomLists cannot generate elements of type " + elementType);
+    }
+}
@@ -0,0 +1,37 @@
+package org.junit.contrib.theories.suppliers;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.junit.contrib.theories.ParametersSuppliedBy;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * <p>Marking a {@link Theory} method {@code long} parameter with this annotation causes it to be supplied with
+ * {@code samples} pseudo-random values from {@code min} to {@code max}, both inclusive, when run as a theory by the
+ * {@link Theories} runner.</p>
+ *
+ * @see GeneratingSupplier
+ */
+@Retention(RUNTIME)
+@Target(PARAMETER)
+@ParametersSuppliedBy(RandomLongsSupplier.class)
+public @interface RandomLongs {
+    long min() default Long.MIN_VALUE;
+
+    long max() default Long.MAX_VALUE;
+
+    /**
+     * @return how many values to supply
+     */
+    int samples() default 100;
+
+    /**
+     * @return the seed the values are generated from; the same seed always gives the same values
+     */
+    long seed() default 0;
+}
@@ -0,0 +1,21 @@
+package org.junit.contrib.theories.suppliers;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.PotentialAssignment;
+
+public class RandomLongsSupplier extends GeneratingSupplier {
+    @Override public List<PotentialAssignment> getValueSources(ParameterSignature sig) {
+        final RandomLongs spec = sig.getAnnotation(RandomLongs.class);
+        checkAccepts(sig, long.class, "RandomLongs");
+        checkBounds("RandomLongs", spec.min(), spec.max());
+
+        return samples("longs", spec.seed(), spec.samples(), new Generator() {
+            public Object generate(Random random) {
+                return nextLong(random, spec.min(), spec.max());
+            }
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package org.junit.contrib.theories.suppliers;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.junit.contrib.theories.ParametersSuppliedBy;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * <p>Marking a {@link Theory} method {@code String} parameter with this annotation causes it to be supplied with
+ * {@code samples} pseudo-random strings of characters from {@code alphabet}, of {@code minLength} to
+ * {@code maxLength} characters, when run as a theory by the {@link Theories} runner.</p>
+ *
+ * <pre>
+ * &#064;Theory
+ * public void hexRoundTrips(&#064;RandomStrings(alphabet = "0123456789abcdef", maxLength = 8) String hex) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @see GeneratingSupplier
+ */
+@Retention(RUNTIME)
+@Target(PARAMETER)
+@ParametersSuppliedBy(RandomStringsSupplier.class)
+public @interface RandomStrings {
+    String alphabet() default GeneratingSupplier.ALPHANUMERIC;
+
+    int minLength() default 0;
+
+    int maxLength() default 16;
+
+    /**
+     * @return how many values to supply
+     */
+    int samples() default 100;
+
+    /**
+     * @return the seed the values are generated from; the same seed always gives the same values
+     */
+    long seed() default 0;
+}
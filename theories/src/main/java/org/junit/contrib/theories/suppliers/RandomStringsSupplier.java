@@ -0,0 +1,24 @@
+package org.junit.contrib.theories.suppliers;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.PotentialAssignment;
+
+public class RandomStringsSupplier extends GeneratingSupplier {
+    @Override public List<PotentialAssignment> getValueSources(ParameterSignature sig) {
+        final RandomStrings spec = sig.getAnnotation(RandomStrings.class);
+        checkAccepts(sig, String.class, "RandomStrings");
+        checkBounds("RandomStrings", spec.minLength(), spec.maxLength());
+        if (spec.minLength() < 0 || (spec.maxLength() > 0 && spec.alphabet().length() == 0)) {
+            throw new IllegalArgumentException("RandomStrings needs a non-negative length and a non-empty alphabet");
+        }
+
+        return samples("strings", spec.seed(), spec.samples(), new Generator() {
+            public Object generate(Random random) {
+                return nextString(random, spec.alphabet(), spec.minLength(), spec.maxLength());
+            }
+        });
+    }
+}
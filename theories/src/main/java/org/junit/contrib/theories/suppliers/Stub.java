@@ -0,0 +1,38 @@
+package org.junit.contrib.theories.suppliers;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.junit.contrib.theories.ParametersSuppliedBy;
+import org.junit.contrib.theories.ReguessableValue;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * <p>Marking a {@link Theory} method parameter of an interface type with this annotation causes it to be supplied
+ * with a stub of the interface when run as a theory by the {@link Theories} runner. The stub starts out answering
+ * each call with a guess. When a theory rejects an answer with an assumption such as {@code assumeThat(answer,
+ * is(expected))}, the runner tries the theory again with a stub that answers {@code expected} instead, so the
+ * theory is run with the answers it needs after a few attempts rather than after trying every possible answer.</p>
+ *
+ * <pre>
+ * &#064;Theory
+ * public void cachesLookups(&#064;Stub Directory directory) {
+ *     assumeThat(directory.lookUp("alice"), is("alice@example.com"));
+ *     ...
+ * }
+ * </pre>
+ *
+ * <p>Guessed answers are {@code String}s, numbers, {@code false} for {@code boolean}s and {@code null} for other
+ * types.</p>
+ *
+ * @see ReguessableValue
+ */
+@Retention(RUNTIME)
+@Target(PARAMETER)
+@ParametersSuppliedBy(StubSupplier.class)
+public @interface Stub {
+}
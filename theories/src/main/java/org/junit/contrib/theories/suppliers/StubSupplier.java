@@ -0,0 +1,19 @@
+package org.junit.contrib.theories.suppliers;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.ParameterSupplier;
+import org.junit.contrib.theories.PotentialAssignment;
+import org.junit.contrib.theories.internal.Guesser;
+
+public class StubSupplier extends ParameterSupplier {
+    @Override public List<PotentialAssignment> getValueSources(ParameterSignature sig) {
+        if (!(sig.getType() instanceof Class<?>) || !((Class<?>) sig.getType()).isInterface()) {
+            throw new IllegalArgumentException("Stub supplies only interface parameters, not " + sig.getType());
+        }
+
+        return Collections.<PotentialAssignment>singletonList(new Guesser<Object>((Class<?>) sig.getType()));
+    }
+}
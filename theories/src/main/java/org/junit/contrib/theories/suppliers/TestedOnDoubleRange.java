@@ -0,0 +1,38 @@
+package org.junit.contrib.theories.suppliers;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.junit.contrib.theories.ParametersSuppliedBy;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * <p>Marking a {@link Theory} method {@code double} parameter with this annotation causes it to be supplied with each
+ * value from {@code from} to {@code to}, both inclusive, in increments of {@code step}, when run as a theory by the
+ * {@link Theories} runner. The values are computed as they are needed, like those of {@link TestedOnRange}.</p>
+ *
+ * <pre>
+ * &#064;Theory
+ * public void staysWithinBounds(&#064;TestedOnDoubleRange(from = 1, to = 0, step = -0.125) double ratio) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * <p>The i-th value is {@code from + i * step}, so rounding errors do not add up along the range. A value that
+ * misses {@code to} only by rounding still counts as reaching it: 0 to 0.3 by 0.1 gives four values, the last of
+ * them {@code 3 * 0.1}. The bounds and the step must be finite, and the step must not be zero.</p>
+ */
+@Retention(RUNTIME)
+@Target(PARAMETER)
+@ParametersSuppliedBy(TestedOnRangeSupplier.class)
+public @interface TestedOnDoubleRange {
+    double from();
+
+    double to();
+
+    double step() default 1;
+}
@@ -0,0 +1,38 @@
+package org.junit.contrib.theories.suppliers;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.junit.contrib.theories.ParametersSuppliedBy;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * <p>Marking a {@link Theory} method {@code int} or {@code long} parameter with this annotation causes it to be
+ * supplied with each value from {@code from} to {@code to}, both inclusive, in increments of {@code step}, when run as
+ * a theory by the {@link Theories} runner. The values are computed as they are needed, so wide ranges cost no more
+ * memory than narrow ones.</p>
+ *
+ * <pre>
+ * &#064;Theory
+ * public void roundTripsEveryPort(&#064;TestedOnRange(from = 0, to = 65535) int port) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * <p>The range of an {@code int} parameter must lie within the {@code int} values. Ranges of {@code double}
+ * parameters are given with {@link TestedOnDoubleRange}.</p>
+ */
+@Retention(RUNTIME)
+@Target(PARAMETER)
+@ParametersSuppliedBy(TestedOnRangeSupplier.class)
+public @interface TestedOnRange {
+    long from();
+
+    long to();
+
+    long step() default 1;
+}
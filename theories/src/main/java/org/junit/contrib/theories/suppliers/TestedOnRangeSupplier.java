@@ -0,0 +1,186 @@
+package org.junit.contrib.theories.suppliers;
+
+import java.lang.reflect.Type;
+import java.util.AbstractList;
+import java.util.List;
+
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.ParameterSupplier;
+import org.junit.contrib.theories.PotentialAssignment;
+
+import static java.lang.String.format;
+
+public class TestedOnRangeSupplier extends ParameterSupplier {
+    @Override public List<PotentialAssignment> getValueSources(ParameterSignature sig) {
+        Type type = sig.getType();
+
+        TestedOnDoubleRange doubleRange = sig.getAnnotation(TestedOnDoubleRange.class);
+        if (doubleRange != null) {
+            if (double.class.equals(type) || Double.class.equals(type)) {
+                return new DoubleRange(doubleRange);
+            }
+            throw new IllegalArgumentException("TestedOnDoubleRange supplies only double parameters, not " + type);
+        }
+
+        TestedOnRange range = sig.getAnnotation(TestedOnRange.class);
+        if (int.class.equals(type) || Integer.class.equals(type)) {
+            checkWithinInts(range);
+            return new IntRange(range);
+        }
+        if (long.class.equals(type) || Long.class.equals(type)) {
+            return new LongRange(range);
+        }
+
+        throw new IllegalArgumentException("TestedOnRange supplies only int and long parameters, not " + type);
+    }
+
+    @Override public long countValueSources(ParameterSignature sig) {
+        return getValueSources(sig).size();
+    }
+
+    private static void checkWithinInts(TestedOnRange range) {
+        if (range.from() != (int) range.from() || range.to() != (int) range.to()) {
+            throw new IllegalArgumentException(format("TestedOnRange from %d to %d is beyond %d to %d",
+                    range.from(), range.to(), Integer.MIN_VALUE, Integer.MAX_VALUE));
+        }
+    }
+
+    private static IllegalArgumentException tooManyValues(Object from, Object to, Object step) {
+        return new IllegalArgumentException(
+                format("TestedOnRange from %s to %s by %s has too many values", from, to, step));
+    }
+
+    private abstract static class Range extends AbstractList<PotentialAssignment> {
+        private final int fSize;
+
+        Range(int size) {
+            fSize = size;
+        }
+
+        @Override public int size() {
+            return fSize;
+        }
+
+        @Override public PotentialAssignment get(final int index) {
+            if (index < 0 || index >= fSize) {
+                throw new IndexOutOfBoundsException("value " + index + " of " + fSize);
+            }
+
+            return new PotentialAssignment() {
+                @Override public Object getValue() {
+                    return valueAt(index);
+                }
+
+                @Override public String getDescription() {
+                    return format("\"%s\" <from range[%d]>", valueAt(index), index);
+                }
+            };
+        }
+
+        abstract Object valueAt(int index);
+    }
+
+    /**
+     * Counts the values of a range of whole numbers exactly. The distance between the bounds and the size of the step
+     * are taken as unsigned, so that neither overflows even for a range over every {@code long}.
+     */
+    private abstract static class WholeRange extends Range {
+        final long fFrom;
+        final long fStep;
+
+        WholeRange(TestedOnRange range) {
+            super(sizeOf(range));
+            fFrom = range.from();
+            fStep = range.step();
+        }
+
+        private static int sizeOf(TestedOnRange range) {
+            long from = range.from();
+            long to = range.to();
+            long step = range.step();
+            if (step == 0) {
+                throw new IllegalArgumentException("TestedOnRange step must not be 0");
+            }
+            if (step > 0 ? to < from : to > from) {
+                return 0;
+            }
+
+            long distance = step > 0 ? to - from : from - to;
+            long steps = Long.divideUnsigned(distance, step > 0 ? step : -step);
+            if (Long.compareUnsigned(steps, Integer.MAX_VALUE - 1) > 0) {
+                throw tooManyValues(from, to, step);
+            }
+            return (int) steps + 1;
+        }
+
+        /**
+         * @return {@code from + index * step}, which lies between the bounds, so that any overflow along the way
+         * cancels out
+         */
+        long longAt(int index) {
+            return fFrom + index * fStep;
+        }
+    }
+
+    private static class IntRange extends WholeRange {
+        IntRange(TestedOnRange range) {
+            super(range);
+        }
+
+        @Override Object valueAt(int index) {
+            return (int) longAt(index);
+        }
+    }
+
+    private static class LongRange extends WholeRange {
+        LongRange(TestedOnRange range) {
+            super(range);
+        }
+
+        @Override Object valueAt(int index) {
+            return longAt(index);
+        }
+    }
+
+    private static class DoubleRange extends Range {
+        private final double fFrom;
+        private final double fStep;
+
+        DoubleRange(TestedOnDoubleRange range) {
+            super(sizeOf(range));
+            fFrom = range.from();
+            fStep = range.step();
+        }
+
+        /**
+         * Counts the values up to {@code to}, taking it as reached when the next value misses it by no more than
+         * rounding would, so that e.g. 0 to 0.3 by 0.1 has four values even though {@code 3 * 0.1 > 0.3}.
+         */
+        private static int sizeOf(TestedOnDoubleRange range) {
+            if (!isFinite(range.from()) || !isFinite(range.to())) {
+                throw new IllegalArgumentException("TestedOnDoubleRange bounds must be finite, not " + range.from()
+                        + " and " + range.to());
+            }
+            if (range.step() == 0 || !isFinite(range.step())) {
+                throw new IllegalArgumentException("TestedOnDoubleRange step must not be " + range.step());
+            }
+
+            double steps = Math.floor((range.to() - range.from()) / range.step());
+            if (Math.abs(range.from() + (steps + 1) * range.step() - range.to()) <= Math.abs(range.step()) * 1e-9) {
+                steps++;
+            }
+            if (steps >= Integer.MAX_VALUE) {
+                throw tooManyValues(range.from(), range.to(), range.step());
+            }
+            return steps < 0 ? 0 : (int) steps + 1;
+        }
+
+        @Override Object valueAt(int index) {
+            return fFrom + index * fStep;
+        }
+
+        private static boolean isFinite(double value) {
+            return !Double.isNaN(value) && !Double.isInfinite(value);
+        }
+    }
+}
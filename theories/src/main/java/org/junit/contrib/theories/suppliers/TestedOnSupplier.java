@@ -18,4 +18,8 @@ public class TestedOnSupplier extends ParameterSupplier {
 
         return list;
     }
+
+    @Override public long countValueSources(ParameterSignature sig) {
+        return sig.getAnnotation(TestedOn.class).ints().length;
+    }
 }
@@ -8,9 +8,11 @@ import org.hamcrest.CoreMatchers;
 import org.junit.Test;
 import org.junit.contrib.theories.DataPoint;
 import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.ParametersSuppliedBy;
 import org.junit.contrib.theories.Theories;
 import org.junit.contrib.theories.Theory;
 import org.junit.contrib.theories.suppliers.TestedOn;
+import org.junit.contrib.theories.suppliers.TestedOnSupplier;
 import org.junit.runner.RunWith;
 
 import static org.hamcrest.CoreMatchers.*;
@@ -75,4 +77,28 @@ public class ParameterSignatureTest {
 
         assertTrue(intSignature.canAcceptType(Integer.class));
     }
+
+    @Test public void signaturesAreSharedBetweenLookupsOfTheSameMethod() throws Exception {
+        List<ParameterSignature> first = ParameterSignature.signatures(getClass().getMethod("foo", int.class));
+        List<ParameterSignature> second = ParameterSignature.signatures(getClass().getMethod("foo", int.class));
+
+        assertNotSame(first, second);
+        assertSame(first.get(0), second.get(0));
+    }
+
+    @Test public void findsParametersSuppliedByThroughMetaAnnotations() throws Exception {
+        ParameterSignature signature = ParameterSignature.signatures(getClass().getMethod("foo", int.class)).get(0);
+
+        ParametersSuppliedBy suppliedBy = signature.findDeepAnnotation(ParametersSuppliedBy.class);
+
+        assertEquals(TestedOnSupplier.class, suppliedBy.value());
+        assertSame(suppliedBy, signature.findDeepAnnotation(ParametersSuppliedBy.class));
+    }
+
+    @Test public void remembersAbsentDeepAnnotations() throws Exception {
+        ParameterSignature signature = ParameterSignature.signatures(getClass().getMethod("foo", int.class)).get(0);
+
+        assertNull(signature.findDeepAnnotation(Theory.class));
+        assertNull(signature.findDeepAnnotation(Theory.class));
+    }
 }
@@ -1,8 +0,0 @@
-package org.junit.contrib.tests.theories.extendingwithstubs;
-
-import java.lang.annotation.Retention;
-import java.lang.annotation.RetentionPolicy;
-
-@Retention(RetentionPolicy.RUNTIME)
-public @interface Stub {
-}
@@ -1 +1 @@
-package org.junit.contrib.tests.theories.extendingwithstubs;import org.junit.contrib.theories.Theory;import org.junit.runner.RunWith;import static org.hamcrest.CoreMatchers.*;import static org.junit.Assume.*;@RunWith(StubbedTheories.class)public class StubbedTheoriesTest {    @Theory public void ask(@Stub Correspondent correspondent) {        assumeThat(correspondent.getAnswer("What is five?", "four", "five"), is("five"));    }}
\ No newline at end of file
+package org.junit.contrib.tests.theories.extendingwithstubs;import org.junit.contrib.theories.Theories;import org.junit.contrib.theories.Theory;import org.junit.contrib.theories.suppliers.Stub;import org.junit.runner.RunWith;import static org.hamcrest.CoreMatchers.*;import static org.junit.Assume.*;@RunWith(Theories.class)public class StubbedTheoriesTest {    @Theory public void ask(@Stub Correspondent correspondent) {        assumeThat(correspondent.getAnswer("What is five?", "four", "five"), is("five"));    }}
\ No newline at end of file
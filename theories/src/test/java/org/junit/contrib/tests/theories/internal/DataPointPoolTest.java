@@ -0,0 +1,79 @@
+package org.junit.contrib.tests.theories.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.contrib.theories.DataPoints;
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.PotentialAssignment;
+import org.junit.contrib.theories.Theory;
+import org.junit.contrib.theories.internal.DataPointPool;
+import org.junit.runners.model.TestClass;
+
+import static java.util.Arrays.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class DataPointPoolTest {
+    public static class MixedTypes {
+        @DataPoints public static Object[] objects = { 1, "a", null, 2L, "b", 3 };
+
+        @Theory public void theory(Integer i, String s, Object o, int primitive) {
+        }
+    }
+
+    @Test public void selectsAcceptableValuesInFieldOrder() throws Exception {
+        List<ParameterSignature> sigs =
+                ParameterSignature.signatures(MixedTypes.class.getMethod("theory", Integer.class, String.class,
+                        Object.class, int.class));
+        DataPointPool pool = DataPointPool.forClass(new TestClass(MixedTypes.class));
+
+        assertEquals(asList(1, null, 3), values(pool, sigs.get(0)));
+        assertEquals(asList("a", null, "b"), values(pool, sigs.get(1)));
+        assertEquals(asList(MixedTypes.objects), values(pool, sigs.get(2)));
+        assertEquals(asList(1, 3), values(pool, sigs.get(3)));
+    }
+
+    @Test public void rereadsReassignedFields() throws Exception {
+        ParameterSignature sig =
+                ParameterSignature.signatures(MixedTypes.class.getMethod("theory", Integer.class, String.class,
+                        Object.class, int.class)).get(3);
+        DataPointPool pool = DataPointPool.forClass(new TestClass(MixedTypes.class));
+        Object[] original = MixedTypes.objects;
+
+        assertThat(values(pool, sig).size(), is(2));
+        try {
+            MixedTypes.objects = new Object[] { 4 };
+            assertEquals(asList(4), values(pool, sig));
+        } finally {
+            MixedTypes.objects = original;
+        }
+    }
+
+    @Test public void rereadsChangedContentsOnceFieldValuesAreForgotten() throws Exception {
+        ParameterSignature sig =
+                ParameterSignature.signatures(MixedTypes.class.getMethod("theory", Integer.class, String.class,
+                        Object.class, int.class)).get(3);
+        DataPointPool pool = DataPointPool.forClass(new TestClass(MixedTypes.class));
+        Object original = MixedTypes.objects[0];
+
+        assertEquals(asList(1, 3), values(pool, sig));
+        try {
+            MixedTypes.objects[0] = 4;
+            pool.forgetFieldValues();
+            assertEquals(asList(4, 3), values(pool, sig));
+        } finally {
+            MixedTypes.objects[0] = original;
+        }
+    }
+
+    private static List<Object> values(DataPointPool pool, ParameterSignature sig) throws Exception {
+        List<Object> values = new ArrayList<Object>();
+        for (PotentialAssignment each : pool.valuesFor(sig, MixedTypes.class.getField("objects"),
+                MixedTypes.objects)) {
+            values.add(each.getValue());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,101 @@
+package org.junit.contrib.tests.theories.internal;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.contrib.theories.DataPoint;
+import org.junit.contrib.theories.DataPoints;
+import org.junit.contrib.theories.Theory;
+import org.junit.contrib.theories.Unordered;
+import org.junit.contrib.theories.internal.ParameterSpace;
+import org.junit.contrib.theories.suppliers.TestedOn;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class ParameterSpaceTest {
+    public enum Colour { RED, GREEN, BLUE }
+
+    public static class Catalogue {
+        @DataPoint public static final String ONE = "one";
+        @DataPoints public static final String[] MORE = { "two", "three" };
+        @DataPoints public static final int[] INTS = { 1, 2, 3, 4 };
+
+        @DataPoint public static String four() {
+            return "four";
+        }
+
+        public Catalogue(boolean flag) {
+        }
+
+        @Theory public void product(String s, int i) {
+        }
+
+        @Theory public void unordered(@Unordered int a, @Unordered int b, @Unordered int c) {
+        }
+
+        @Theory public void fromTypeAlone(Colour colour) {
+        }
+
+        @Theory public void suppliedExplicitly(@TestedOn(ints = { 1, 2 }) int i, String s) {
+        }
+
+        @Theory public void unorderedFromDifferentSources(@Unordered @TestedOn(ints = { 1, 2 }) int a,
+                @Unordered @TestedOn(ints = { 5, 6, 7 }) int b) {
+        }
+    }
+
+    public static class WithIterableMethod {
+        @DataPoint public static final String ONE = "one";
+
+        @DataPoints public static List<Long> longs() {
+            return Arrays.asList(1L, 2L);
+        }
+
+        @Theory public void fromIterableMethod(String s, boolean b) {
+        }
+    }
+
+    @Test public void multipliesTheValuesOfEachParameter() throws Exception {
+        ParameterSpace space = spaceOf("product", String.class, int.class);
+
+        assertThat(space.getSize(), is(2L * 4 * 4));
+        assertTrue(space.isExact());
+    }
+
+    @Test public void countsEachUnorderedSelectionOnce() throws Exception {
+        assertThat(spaceOf("unordered", int.class, int.class, int.class).getSize(), is(2L * 20));
+    }
+
+    @Test public void countsEveryOrderOfUnorderedParametersWithDifferentSources() throws Exception {
+        assertThat(spaceOf("unorderedFromDifferentSources", int.class, int.class).getSize(), is(2L * 2 * 3));
+    }
+
+    @Test public void countsValuesFromTypeAlone() throws Exception {
+        assertThat(spaceOf("fromTypeAlone", Colour.class).getSize(), is(2L * 3));
+    }
+
+    @Test public void asksExplicitSuppliersToCount() throws Exception {
+        assertThat(spaceOf("suppliedExplicitly", int.class, String.class).getSize(), is(2L * 2 * 4));
+    }
+
+    @Test public void treatsDataPointsMethodsAsUncounted() throws Exception {
+        ParameterSpace space = ParameterSpace.of(
+                new FrameworkMethod(WithIterableMethod.class.getMethod("fromIterableMethod", String.class,
+                        boolean.class)),
+                new TestClass(WithIterableMethod.class));
+
+        assertFalse(space.isExact());
+        assertThat(space.getSize(), is(1L));
+        assertThat(space.getUncountedParameters().size(), is(2));
+        assertThat(space.toString(), containsString("at least 1"));
+    }
+
+    private static ParameterSpace spaceOf(String name, Class<?>... parameterTypes) throws Exception {
+        return ParameterSpace.of(new FrameworkMethod(Catalogue.class.getMethod(name, parameterTypes)),
+                new TestClass(Catalogue.class));
+    }
+}
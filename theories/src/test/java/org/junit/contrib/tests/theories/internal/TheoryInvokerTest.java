@@ -0,0 +1,83 @@
+package org.junit.contrib.tests.theories.internal;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.contrib.theories.internal.TheoryInvoker;
+import org.junit.rules.ExpectedException;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class TheoryInvokerTest {
+    @Rule public final ExpectedException expected = ExpectedException.none();
+
+    public static class Target {
+        private final String prefix;
+
+        public Target(String prefix) {
+            if ("boom".equals(prefix)) {
+                throw new IllegalStateException(prefix);
+            }
+            this.prefix = prefix;
+        }
+
+        public String describe(long number, String suffix) {
+            return prefix + number + suffix;
+        }
+
+        public void explode(int ignored) throws Exception {
+            throw new Exception("exploded");
+        }
+    }
+
+    private TheoryInvoker invokerFor(String methodName, Class<?>... parameterTypes) throws Exception {
+        return TheoryInvoker.forTheory(
+                new FrameworkMethod(Target.class.getMethod(methodName, parameterTypes)),
+                new TestClass(Target.class));
+    }
+
+    @Test public void invokesMethodWithWidenedPrimitives() throws Throwable {
+        TheoryInvoker invoker = invokerFor("describe", long.class, String.class);
+
+        Object target = invoker.newInstance("a");
+
+        assertEquals("a3b", invoker.invoke(target, 3, "b"));
+    }
+
+    @Test public void exceptionsFromMethodPropagateUnwrapped() throws Throwable {
+        TheoryInvoker invoker = invokerFor("explode", int.class);
+
+        expected.expect(Exception.class);
+        expected.expectMessage("exploded");
+        invoker.invoke(invoker.newInstance("a"), 1);
+    }
+
+    @Test public void exceptionsFromConstructorAreWrappedLikeReflection() throws Throwable {
+        TheoryInvoker invoker = invokerFor("explode", int.class);
+
+        try {
+            invoker.newInstance("boom");
+            fail();
+        } catch (InvocationTargetException e) {
+            assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+        }
+    }
+
+    @Test public void nullForPrimitiveParameterIsRejectedLikeReflection() throws Throwable {
+        TheoryInvoker invoker = invokerFor("describe", long.class, String.class);
+
+        expected.expect(IllegalArgumentException.class);
+        invoker.invoke(invoker.newInstance("a"), null, "b");
+    }
+
+    @Test public void mismatchedArgumentIsRejectedLikeReflection() throws Throwable {
+        TheoryInvoker invoker = invokerFor("describe", long.class, String.class);
+
+        expected.expect(IllegalArgumentException.class);
+        invoker.invoke(invoker.newInstance("a"), 1, 2);
+    }
+}
@@ -6,12 +6,15 @@ import java.util.List;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.contrib.theories.DataPoint;
+import org.junit.contrib.theories.DataPoints;
 import org.junit.contrib.theories.Theories;
 import org.junit.contrib.theories.Theory;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
+import org.junit.runners.MethodSorters;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
@@ -172,4 +175,23 @@ public class SuccessfulWithDataPointFieldsTest {
             assertTrue(i == 0);
         }
     }
+
+    @RunWith(Theories.class)
+    @FixMethodOrder(MethodSorters.NAME_ASCENDING)
+    public static class ChangesDataPointsBetweenTheories {
+        @DataPoints public static final int[] INTS = { 1 };
+
+        @BeforeClass public static void resetValues() {
+            INTS[0] = 1;
+        }
+
+        @Theory public void first(int x) {
+            assertThat(x, is(1));
+            INTS[0] = 2;
+        }
+
+        @Theory public void second(int x) {
+            assertThat(x, is(2));
+        }
+    }
 }
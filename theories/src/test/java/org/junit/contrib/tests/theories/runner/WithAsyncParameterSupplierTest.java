@@ -0,0 +1,119 @@
+package org.junit.contrib.tests.theories.runner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.junit.contrib.theories.DataPoints;
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.ParameterSupplier;
+import org.junit.contrib.theories.ParametersSuppliedBy;
+import org.junit.contrib.theories.PotentialAssignment;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.runner.RunWith;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class WithAsyncParameterSupplierTest {
+    static final List<String> loadingThreads = Collections.synchronizedList(new ArrayList<String>());
+    static final List<String> calls = Collections.synchronizedList(new ArrayList<String>());
+
+    public static class SlowSupplier extends ParameterSupplier {
+        @Override public List<PotentialAssignment> getValueSources(ParameterSignature sig) throws Exception {
+            loadingThreads.add(Thread.currentThread().getName());
+            Thread.sleep(20);
+
+            List<PotentialAssignment> values = new ArrayList<PotentialAssignment>();
+            values.add(PotentialAssignment.forValue("a", "a"));
+            values.add(PotentialAssignment.forValue("b", "b"));
+            return values;
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class UsesSlowSupplier {
+        @DataPoints public static final int[] ints = { 1, 2, 3 };
+
+        @Theory public void theory(int x, @ParametersSuppliedBy(value = SlowSupplier.class, async = true) String s) {
+            calls.add(x + s);
+        }
+    }
+
+    @Test public void loadsValuesOnBackgroundThreads() {
+        loadingThreads.clear();
+        calls.clear();
+
+        assertThat(testResult(UsesSlowSupplier.class), isSuccessful());
+        assertEquals(6, calls.size());
+        assertThat(calls, hasItems("1a", "1b", "2a", "2b", "3a", "3b"));
+        for (String each : loadingThreads) {
+            assertThat(each, startsWith("theories-prefetch"));
+        }
+    }
+
+    public static class CountingSupplier extends ParameterSupplier {
+        static final AtomicInteger loads = new AtomicInteger();
+        static CountDownLatch secondLoad;
+
+        @Override public List<PotentialAssignment> getValueSources(ParameterSignature sig) {
+            if (loads.incrementAndGet() == 2) {
+                secondLoad.countDown();
+            }
+
+            List<PotentialAssignment> values = new ArrayList<PotentialAssignment>();
+            values.add(PotentialAssignment.forValue("a", "a"));
+            return values;
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class UsesCountingSupplier {
+        @DataPoints public static final int[] ints = { 1, 2, 3 };
+
+        @Theory public void theory(int x, @ParametersSuppliedBy(value = CountingSupplier.class, async = true) String s)
+                throws Exception {
+            if (x == 1) {
+                assertTrue(CountingSupplier.secondLoad.await(5, TimeUnit.SECONDS));
+            }
+        }
+    }
+
+    @Test public void loadsNextValuesWhileCombinationsRun() {
+        CountingSupplier.loads.set(0);
+        CountingSupplier.secondLoad = new CountDownLatch(1);
+
+        assertThat(testResult(UsesCountingSupplier.class), isSuccessful());
+    }
+
+    @Test public void loadsNoValuesAfterTheLastAreTaken() {
+        CountingSupplier.loads.set(0);
+        CountingSupplier.secondLoad = new CountDownLatch(1);
+
+        assertThat(testResult(UsesCountingSupplier.class), isSuccessful());
+        assertEquals(3, CountingSupplier.loads.get());
+    }
+
+    public static class FailingSupplier extends ParameterSupplier {
+        @Override public List<PotentialAssignment> getValueSources(ParameterSignature sig) {
+            throw new IllegalStateException("fixture directory missing");
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class UsesFailingSupplier {
+        @Theory public void theory(@ParametersSuppliedBy(value = FailingSupplier.class, async = true) String s) {
+        }
+    }
+
+    @Test public void reportsFailuresFromBackgroundLoading() {
+        assertThat(testResult(UsesFailingSupplier.class), hasSingleFailureContaining("fixture directory missing"));
+    }
+}
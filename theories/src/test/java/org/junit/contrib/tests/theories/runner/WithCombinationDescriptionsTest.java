@@ -0,0 +1,173 @@
+package org.junit.contrib.tests.theories.runner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.contrib.theories.DataPoints;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.contrib.theories.Unordered;
+import org.junit.runner.Description;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+
+import static java.util.Arrays.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+public class WithCombinationDescriptionsTest {
+    @RunWith(Theories.class)
+    public static class Grid {
+        static final List<String> tried = new ArrayList<String>();
+
+        @DataPoints public static String[] letters = { "a", "b", "c" };
+
+        @Theory public void letters(String letter, boolean upper) {
+            tried.add(upper ? letter.toUpperCase() : letter);
+            assumeTrue(!letter.equals("c") || upper);
+            assertFalse(letter.equals("b") && !upper);
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class Unnumbered {
+        @DataPoints public static String[] letters = { "a", "b", "c" };
+
+        @Theory public void pairs(@Unordered String first, @Unordered String second) {
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class AllRejected {
+        @DataPoints public static String[] letters = { "a", "b" };
+
+        @Theory public void rejected(String letter) {
+            assumeTrue(false);
+        }
+    }
+
+    private static class RecordingListener extends RunListener {
+        final List<String> events = new ArrayList<String>();
+
+        @Override public void testStarted(Description description) {
+            events.add("started " + description.getMethodName());
+        }
+
+        @Override public void testFailure(Failure failure) {
+            events.add("failed " + failure.getDescription().getMethodName());
+        }
+
+        @Override public void testAssumptionFailure(Failure failure) {
+            events.add("rejected " + failure.getDescription().getMethodName());
+        }
+
+        @Override public void testFinished(Description description) {
+            events.add("finished " + description.getMethodName());
+        }
+    }
+
+    @Before public void describeCombinations() {
+        System.setProperty(Theories.DESCRIBE_COMBINATIONS_PROPERTY, "true");
+        Grid.tried.clear();
+    }
+
+    @After public void clearProperty() {
+        System.clearProperty(Theories.DESCRIBE_COMBINATIONS_PROPERTY);
+        System.clearProperty(Theories.MAX_DESCRIBED_COMBINATIONS_PROPERTY);
+    }
+
+    @Test public void describesEachCombinationByOrdinal() {
+        Description theory = theoryOf(Request.aClass(Grid.class), "letters");
+
+        assertThat(theory.getChildren().size(), is(6));
+        assertThat(theory.getChildren().get(0), is(Description.createTestDescription(Grid.class, "letters[0]")));
+        assertThat(theory.getChildren().get(5), is(Description.createTestDescription(Grid.class, "letters[5]")));
+    }
+
+    @Test public void reportsEachCombinationOnItsOwn() {
+        Result result = new JUnitCore().run(Grid.class);
+
+        assertThat(Grid.tried, is(asList("A", "a", "B", "b", "C", "c")));
+        assertThat(result.getRunCount(), is(6));
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getDescription(),
+                is(Description.createTestDescription(Grid.class, "letters[3]")));
+    }
+
+    @Test public void runsOnlyTheCombinationsSelected() {
+        Request request = Request.aClass(Grid.class).filterWith(
+                Description.createTestDescription(Grid.class, "letters[2]"));
+
+        Result result = new JUnitCore().run(request);
+
+        assertTrue(result.wasSuccessful());
+        assertThat(Grid.tried, is(asList("B")));
+        assertThat(theoryOf(request, "letters").getChildren().size(), is(1));
+    }
+
+    @Test public void runsEveryCombinationOfTheorySelectedByName() {
+        new JUnitCore().run(Request.method(Grid.class, "letters"));
+
+        assertThat(Grid.tried.size(), is(6));
+    }
+
+    @Test public void describesTheoriesAsOneTestUnlessAskedTo() {
+        System.clearProperty(Theories.DESCRIBE_COMBINATIONS_PROPERTY);
+
+        assertTrue(theoryOf(Request.aClass(Grid.class), "letters").isTest());
+    }
+
+    @Test public void describesTheoriesWithUnorderedParametersAsOneTest() {
+        assertTrue(theoryOf(Request.aClass(Unnumbered.class), "pairs").isTest());
+    }
+
+    @Test public void describesTheoriesWithTooManyCombinationsAsOneTest() {
+        System.setProperty(Theories.MAX_DESCRIBED_COMBINATIONS_PROPERTY, "5");
+
+        assertTrue(theoryOf(Request.aClass(Grid.class), "letters").isTest());
+    }
+
+    @Test public void runsTheCombinationNamedInTheoriesWithTooManyToDescribe() {
+        System.setProperty(Theories.MAX_DESCRIBED_COMBINATIONS_PROPERTY, "5");
+        Request request = Request.aClass(Grid.class).filterWith(
+                Description.createTestDescription(Grid.class, "letters[2]"));
+
+        Result result = new JUnitCore().run(request);
+
+        assertThat(result.getRunCount(), is(1));
+        assertThat(Grid.tried, is(asList("B")));
+        assertThat(theoryOf(request, "letters").getChildren(),
+                is(asList(Description.createTestDescription(Grid.class, "letters[2]"))));
+    }
+
+    @Test public void startsTheTheoryBeforeReportingItsOwnFailure() {
+        RecordingListener listener = new RecordingListener();
+        JUnitCore core = new JUnitCore();
+        core.addListener(listener);
+
+        core.run(AllRejected.class);
+
+        assertThat(listener.events, is(asList(
+                "started rejected[0]", "rejected rejected[0]", "finished rejected[0]",
+                "started rejected[1]", "rejected rejected[1]", "finished rejected[1]",
+                "started rejected", "failed rejected", "finished rejected")));
+    }
+
+    private static Description theoryOf(Request request, String name) {
+        for (Description each : request.getRunner().getDescription().getChildren()) {
+            if (name.equals(each.getMethodName())) {
+                return each;
+            }
+        }
+        throw new AssertionError("no theory " + name);
+    }
+}
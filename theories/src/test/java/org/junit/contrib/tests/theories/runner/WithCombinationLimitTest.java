@@ -0,0 +1,128 @@
+package org.junit.contrib.tests.theories.runner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.contrib.theories.DataPoints;
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.ParameterSupplier;
+import org.junit.contrib.theories.ParametersSuppliedBy;
+import org.junit.contrib.theories.PotentialAssignment;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.contrib.theories.suppliers.TestedOnRange;
+import org.junit.runner.RunWith;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class WithCombinationLimitTest {
+    @RunWith(Theories.class)
+    public static class Explosive {
+        static int invocations;
+
+        @Theory public void explodes(@TestedOnRange(from = 1, to = 100) int a, @TestedOnRange(from = 1, to = 100) int b,
+                @TestedOnRange(from = 1, to = 100) int c) {
+            invocations++;
+        }
+    }
+
+    @After public void clearProperties() {
+        System.clearProperty(Theories.MAX_COMBINATIONS_PROPERTY);
+        System.clearProperty(Theories.FAIL_ON_TOO_MANY_COMBINATIONS_PROPERTY);
+    }
+
+    @Test public void failsTheoriesWithTooManyCombinationsBeforeRunningThem() {
+        System.setProperty(Theories.MAX_COMBINATIONS_PROPERTY, "999999");
+        System.setProperty(Theories.FAIL_ON_TOO_MANY_COMBINATIONS_PROPERTY, "true");
+        Explosive.invocations = 0;
+
+        assertThat(testResult(Explosive.class),
+                hasSingleFailureContaining("explodes would be tried with 1000000 combinations"));
+        assertThat(Explosive.invocations, is(0));
+    }
+
+    @Test public void runsTheoriesWithinTheLimit() {
+        System.setProperty(Theories.MAX_COMBINATIONS_PROPERTY, "1000000");
+        System.setProperty(Theories.FAIL_ON_TOO_MANY_COMBINATIONS_PROPERTY, "true");
+
+        assertThat(testResult(SmallerTheory.class), isSuccessful());
+    }
+
+    @RunWith(Theories.class)
+    public static class SmallerTheory {
+        @Theory public void fits(@TestedOnRange(from = 1, to = 10) int a, @TestedOnRange(from = 1, to = 10) int b) {
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class FilledBeforeClass {
+        static int invocations;
+
+        @DataPoints public static List<String> names = new ArrayList<String>();
+
+        @BeforeClass public static void fill() {
+            names.clear();
+            names.add("a");
+            names.add("b");
+            names.add("c");
+        }
+
+        @Theory public void named(String name) {
+            invocations++;
+        }
+    }
+
+    @Test public void readsNoDataPointsBeforeTheClassIsSetUp() {
+        FilledBeforeClass.invocations = 0;
+
+        assertThat(testResult(FilledBeforeClass.class), isSuccessful());
+        assertThat(FilledBeforeClass.invocations, is(3));
+    }
+
+    @Test public void countsDataPointsOnceTheClassIsSetUp() {
+        System.setProperty(Theories.MAX_COMBINATIONS_PROPERTY, "3");
+        System.setProperty(Theories.FAIL_ON_TOO_MANY_COMBINATIONS_PROPERTY, "true");
+        FilledBeforeClass.invocations = 0;
+
+        assertThat(testResult(FilledBeforeClass.class), isSuccessful());
+        assertThat(FilledBeforeClass.invocations, is(3));
+    }
+
+    public static class CountingSupplier extends ParameterSupplier {
+        static int instances;
+
+        public CountingSupplier() {
+            instances++;
+        }
+
+        @Override public List<PotentialAssignment> getValueSources(ParameterSignature sig) {
+            List<PotentialAssignment> values = new ArrayList<PotentialAssignment>();
+            values.add(PotentialAssignment.forValue("a", "a"));
+            return values;
+        }
+
+        @Override public long countValueSources(ParameterSignature sig) {
+            return 1;
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class UsesCountingSupplier {
+        @Theory public void theory(@ParametersSuppliedBy(CountingSupplier.class) String value) {
+        }
+    }
+
+    @Test public void countsWithTheSuppliersTheTheoryUses() {
+        System.setProperty(Theories.MAX_COMBINATIONS_PROPERTY, "10");
+        CountingSupplier.instances = 0;
+
+        assertThat(testResult(UsesCountingSupplier.class), isSuccessful());
+        assertThat(CountingSupplier.instances, is(1));
+    }
+}
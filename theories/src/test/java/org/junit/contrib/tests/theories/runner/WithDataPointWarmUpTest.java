@@ -0,0 +1,96 @@
+package org.junit.contrib.tests.theories.runner;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.junit.contrib.theories.DataPoint;
+import org.junit.contrib.theories.DataPoints;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.contrib.theories.WarmUpDataPoints;
+import org.junit.runner.RunWith;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class WithDataPointWarmUpTest {
+    @RunWith(Theories.class)
+    @WarmUpDataPoints(threads = 2)
+    public static class EvaluatedTogether {
+        static CountDownLatch bothStarted;
+        static AtomicInteger evaluations;
+
+        @DataPoint public static String first() throws InterruptedException {
+            return awaitOther("first");
+        }
+
+        @DataPoints public static String[] rest() throws InterruptedException {
+            return new String[] { awaitOther("second"), "third" };
+        }
+
+        private static String awaitOther(String value) throws InterruptedException {
+            evaluations.incrementAndGet();
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+            return value;
+        }
+
+        @Theory public void pairs(String x, String y) {
+            assertThat(x.length(), not(0));
+        }
+
+        @Theory public void singles(String x) {
+        }
+    }
+
+    @Test public void evaluatesDataPointMethodsConcurrentlyAndOnlyOnce() {
+        EvaluatedTogether.bothStarted = new CountDownLatch(2);
+        EvaluatedTogether.evaluations = new AtomicInteger();
+
+        assertThat(testResult(EvaluatedTogether.class), isSuccessful());
+        assertThat(EvaluatedTogether.evaluations.get(), is(2));
+    }
+
+    @RunWith(Theories.class)
+    @WarmUpDataPoints
+    public static class IgnoringFailures {
+        @DataPoint(ignoredExceptions = IllegalStateException.class)
+        public static Integer unavailable() {
+            throw new IllegalStateException();
+        }
+
+        @DataPoints(ignoredExceptions = IllegalStateException.class)
+        public static Integer[] alsoUnavailable() {
+            throw new IllegalStateException();
+        }
+
+        @DataPoint public static Integer ONE = 1;
+
+        @Theory public void positive(Integer i) {
+            assertTrue(i > 0);
+        }
+    }
+
+    @Test public void honoursIgnoredExceptionsOfWarmedUpMethods() {
+        assertThat(testResult(IgnoringFailures.class), isSuccessful());
+    }
+
+    @RunWith(Theories.class)
+    @WarmUpDataPoints
+    public static class Failing {
+        @DataPoint public static Integer broken() {
+            throw new IllegalStateException("broken");
+        }
+
+        @Theory public void anything(Integer i) {
+        }
+    }
+
+    @Test public void reportsExceptionsThatAreNotIgnored() {
+        assertThat(testResult(Failing.class), hasSingleFailureContaining("broken"));
+    }
+}
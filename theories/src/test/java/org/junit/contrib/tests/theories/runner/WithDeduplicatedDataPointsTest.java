@@ -0,0 +1,99 @@
+package org.junit.contrib.tests.theories.runner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.contrib.theories.DataPoint;
+import org.junit.contrib.theories.DataPoints;
+import org.junit.contrib.theories.PotentialAssignment;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.runner.RunWith;
+
+import static java.util.Arrays.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.junit.contrib.tests.theories.TheoryTestUtils.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class WithDeduplicatedDataPointsTest {
+    @RunWith(Theories.class)
+    public static class OverlappingSources {
+        static int invocations;
+
+        @DataPoint public static final int ONE = 1;
+        @DataPoints public static final int[] someInts = { 1, 2 };
+
+        @DataPoints public static int[] moreInts() {
+            return new int[] { 2, 3 };
+        }
+
+        @Theory(deduplicateDataPoints = true) public void distinct(int x, int y) {
+            invocations++;
+        }
+
+        @Theory public void duplicated(int x) {
+        }
+    }
+
+    @Test public void keepsFirstSourceOfEachValue() throws Throwable {
+        List<PotentialAssignment> assignments =
+                potentialAssignments(OverlappingSources.class.getMethod("distinct", int.class, int.class));
+
+        assertEquals(asList("\"1\" <from ONE>", "\"2\" <from someInts[1]>", "\"3\" <from moreInts[1]>"),
+                descriptions(assignments));
+    }
+
+    @Test public void keepsDuplicatesUnlessAskedNotTo() throws Throwable {
+        List<PotentialAssignment> assignments =
+                potentialAssignments(OverlappingSources.class.getMethod("duplicated", int.class));
+
+        assertThat(assignments.size(), is(5));
+    }
+
+    @Test public void runsOnlyDistinctCombinations() {
+        OverlappingSources.invocations = 0;
+
+        assertThat(testResult(OverlappingSources.class), isSuccessful());
+        assertThat(OverlappingSources.invocations, is(9));
+    }
+
+    public static class FloatingPointValues {
+        @DataPoints public static final double[] doubles = { Double.NaN, 0.0, -0.0, Double.NaN, 0.0 };
+
+        @Theory(deduplicateDataPoints = true) public void doubles(double d) {
+        }
+    }
+
+    public static class ArrayValues {
+        @DataPoints public static final Object[] arrays = { new int[] { 1 }, new int[] { 1 }, new long[] { 1 } };
+
+        @Theory(deduplicateDataPoints = true) public void arrays(Object array) {
+        }
+    }
+
+    @Test public void comparesFloatingPointValuesBitForBit() throws Throwable {
+        List<PotentialAssignment> assignments =
+                potentialAssignments(FloatingPointValues.class.getMethod("doubles", double.class));
+
+        assertEquals(asList("\"NaN\" <from doubles[0]>", "\"0.0\" <from doubles[1]>", "\"-0.0\" <from doubles[2]>"),
+                descriptions(assignments));
+    }
+
+    @Test public void comparesArraysByContents() throws Throwable {
+        List<PotentialAssignment> assignments =
+                potentialAssignments(ArrayValues.class.getMethod("arrays", Object.class));
+
+        assertThat(assignments.size(), is(2));
+    }
+
+    private static List<String> descriptions(List<PotentialAssignment> assignments) throws Exception {
+        List<String> descriptions = new ArrayList<String>();
+        for (PotentialAssignment each : assignments) {
+            descriptions.add(each.getDescription());
+        }
+        return descriptions;
+    }
+}
@@ -0,0 +1,96 @@
+package org.junit.contrib.tests.theories.runner;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.contrib.theories.DataPoints;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.contrib.theories.internal.TheoryEvents;
+import org.junit.runner.RunWith;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+
+import static java.util.Arrays.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class WithFlightRecorderEventsTest {
+    @RunWith(Theories.class)
+    public static class Recorded {
+        @DataPoints public static int[] ints = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 };
+
+        @Theory public void evenOrNegated(int i, boolean negated) {
+            assumeTrue(i % 2 == 0 || negated);
+        }
+    }
+
+    @After public void clearProperty() {
+        System.clearProperty(Theories.JFR_COMBINATION_SAMPLING_PROPERTY);
+    }
+
+    @Test public void recordsTheoriesSuppliersAndSampledCombinations() throws Exception {
+        System.setProperty(Theories.JFR_COMBINATION_SAMPLING_PROPERTY, "5");
+
+        List<RecordedEvent> events = record(Recorded.class);
+
+        List<RecordedEvent> theories = named(events, "org.junit.contrib.theories.Theory");
+        assertThat(theories.size(), is(1));
+        assertThat(theories.get(0).getString("theory"), is("evenOrNegated"));
+        assertThat(theories.get(0).getLong("combinations"), is(20L));
+        assertThat(theories.get(0).getLong("successes"), is(15L));
+        assertThat(theories.get(0).getLong("rejections"), is(5L));
+
+        assertThat(named(events, "org.junit.contrib.theories.SupplierResolution").size(), is(11));
+
+        List<Long> ordinals = new ArrayList<Long>();
+        for (RecordedEvent each : named(events, "org.junit.contrib.theories.Combination")) {
+            ordinals.add(each.getLong("ordinal"));
+        }
+        assertThat(ordinals, is(asList(0L, 5L, 10L, 15L)));
+    }
+
+    @Test public void emitsNothingWithoutARecording() throws Exception {
+        FrameworkMethod theory =
+                new FrameworkMethod(Recorded.class.getMethod("evenOrNegated", int.class, boolean.class));
+
+        assertSame(TheoryEvents.DISABLED, TheoryEvents.forTheory(theory, new TestClass(Recorded.class)));
+    }
+
+    private static List<RecordedEvent> record(Class<?> testClass) throws Exception {
+        File file = File.createTempFile("theories", ".jfr");
+        Recording recording = new Recording();
+        try {
+            recording.enable("org.junit.contrib.theories.Theory");
+            recording.enable("org.junit.contrib.theories.SupplierResolution");
+            recording.enable("org.junit.contrib.theories.Combination");
+            recording.start();
+            assertThat(testResult(testClass), isSuccessful());
+            recording.stop();
+            recording.dump(file.toPath());
+            return RecordingFile.readAllEvents(file.toPath());
+        } finally {
+            recording.close();
+            file.delete();
+        }
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> named = new ArrayList<RecordedEvent>();
+        for (RecordedEvent each : events) {
+            if (each.getEventType().getName().equals(name)) {
+                named.add(each);
+            }
+        }
+        return named;
+    }
+}
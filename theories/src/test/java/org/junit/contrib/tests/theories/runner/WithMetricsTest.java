@@ -0,0 +1,99 @@
+package org.junit.contrib.tests.theories.runner;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.contrib.theories.suppliers.TestedOn;
+import org.junit.runner.RunWith;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class WithMetricsTest {
+    private static final String DIRECTORY = "target/theories-metrics-test";
+
+    @RunWith(Theories.class)
+    public static class Measured {
+        public Measured(@TestedOn(ints = { 1, 2 }) int x) {
+        }
+
+        @Theory public void onlyEven(@TestedOn(ints = { 1, 2, 3, 4 }) int i) {
+            assumeTrue("odd", i % 2 == 0);
+        }
+
+        @Theory public void failsOnThree(@TestedOn(ints = { 1, 2, 3 }) int i) {
+            assertThat(i, not(3));
+        }
+    }
+
+    @Before public void enableMetrics() {
+        System.setProperty(Theories.METRICS_PROPERTY, "true");
+        System.setProperty(Theories.METRICS_DIRECTORY_PROPERTY, DIRECTORY);
+    }
+
+    @After public void disableMetrics() {
+        System.clearProperty(Theories.METRICS_PROPERTY);
+        System.clearProperty(Theories.METRICS_DIRECTORY_PROPERTY);
+    }
+
+    @Test public void writesMetricsOfEachTheoryOnceTheClassHasRun() throws Exception {
+        File file = new File(DIRECTORY, Measured.class.getName() + ".json");
+        file.delete();
+
+        assertThat(testResult(Measured.class), hasFailureContaining("failsOnThree"));
+
+        String json = read(file);
+        assertThat(json, containsString("\"class\": \"" + Measured.class.getName() + "\""));
+        assertThat(json, containsString("\"theory\": \"onlyEven\",\n"
+                + "      \"combinations\": 8,\n"
+                + "      \"successes\": 4,\n"
+                + "      \"failures\": 0,\n"
+                + "      \"assumptionViolations\": 4,\n"
+                + "      \"assumptionViolationsByMessage\": {\n"
+                + "        \"odd\": 4\n"
+                + "      },\n"));
+        assertThat(json, containsString("\"theory\": \"failsOnThree\",\n"
+                + "      \"combinations\": 3,\n"
+                + "      \"successes\": 2,\n"
+                + "      \"failures\": 1,\n"));
+        assertThat(json, containsString("\"p99\": "));
+        assertThat(json, containsString("\"supplierNanos\": "));
+        assertThat(json, containsString("\"instanceCreationNanos\": "));
+    }
+
+    @Test public void writesNothingUnlessAskedTo() {
+        disableMetrics();
+        File file = new File(DIRECTORY, Measured.class.getName() + ".json");
+        file.delete();
+
+        testResult(Measured.class);
+
+        assertFalse(file.exists());
+    }
+
+    private static String read(File file) throws IOException {
+        StringBuilder contents = new StringBuilder();
+        Reader reader = new InputStreamReader(new FileInputStream(file), "UTF-8");
+        try {
+            char[] buffer = new char[4096];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                contents.append(buffer, 0, read);
+            }
+        } finally {
+            reader.close();
+        }
+        return contents.toString();
+    }
+}
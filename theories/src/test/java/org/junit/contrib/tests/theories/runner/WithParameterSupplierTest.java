@@ -19,6 +19,8 @@ import org.junit.runners.model.TestClass;
 
 import static org.junit.Assert.*;
 import static org.junit.contrib.tests.theories.TheoryTestUtils.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
 
 public class WithParameterSupplierTest {
     @Rule public final ExpectedException expected = ExpectedException.none();
@@ -128,4 +130,46 @@ public class WithParameterSupplierTest {
     @Test public void shouldAcceptSuppliersWithTestClassConstructor() throws Exception {
         new Theories(TestClassUsingSupplierWithTestClassConstructor.class);
     }
+
+    public static class CountingSupplier extends SimpleSupplier {
+        static int instances;
+
+        public CountingSupplier() {
+            instances++;
+        }
+    }
+
+    public static class StatefulCountingSupplier extends CountingSupplier {
+        @Override public boolean isStateful() {
+            return true;
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class TestClassUsingCountingSupplier {
+        @Theory public void theory(@ParametersSuppliedBy(CountingSupplier.class) String first,
+                @ParametersSuppliedBy(CountingSupplier.class) String second) {
+        }
+    }
+
+    @Test public void shouldCreateSupplierOncePerParameter() {
+        CountingSupplier.instances = 0;
+
+        assertThat(testResult(TestClassUsingCountingSupplier.class), isSuccessful());
+        assertEquals(2, CountingSupplier.instances);
+    }
+
+    @RunWith(Theories.class)
+    public static class TestClassUsingStatefulSupplier {
+        @Theory public void theory(@ParametersSuppliedBy(StatefulCountingSupplier.class) String first,
+                @ParametersSuppliedBy(StatefulCountingSupplier.class) String second) {
+        }
+    }
+
+    @Test public void shouldCreateStatefulSupplierForEachUse() {
+        CountingSupplier.instances = 0;
+
+        assertThat(testResult(TestClassUsingStatefulSupplier.class), isSuccessful());
+        assertEquals(1 + DATAPOINTS.size(), CountingSupplier.instances);
+    }
 }
@@ -0,0 +1,101 @@
+package org.junit.contrib.tests.theories.runner;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.contrib.theories.DataPoints;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.runner.RunWith;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class WithPerCombinationTimeoutTest {
+    @RunWith(Theories.class)
+    public static class SleepsForOneValue {
+        @DataPoints public static final int[] ints = { 1, 2, 3 };
+
+        @Theory(perCombinationTimeoutMillis = 100) public void sleepy(int x) throws Exception {
+            if (x == 2) {
+                Thread.sleep(10000);
+            }
+        }
+    }
+
+    @Test public void reportsTheAssignmentThatTimedOut() {
+        assertThat(
+                testResult(SleepsForOneValue.class),
+                allOf(hasSingleFailureContaining("sleepy(\"2\" <from ints[1]>)"),
+                        hasSingleFailureContaining("timed out after 100 milliseconds")));
+    }
+
+    @RunWith(Theories.class)
+    public static class SpinsForOneValue {
+        @DataPoints public static final int[] ints = { 1, 2, 3 };
+
+        @Theory(perCombinationTimeoutMillis = 100) public void spinning(int x) {
+            long deadline = System.currentTimeMillis() + 2000;
+            while (x == 1 && System.currentTimeMillis() < deadline) {
+                // busy, and deaf to interrupts
+            }
+        }
+    }
+
+    @Test public void failsCombinationsThatIgnoreInterruptsOnceTheyEnd() {
+        assertThat(
+                testResult(SpinsForOneValue.class),
+                allOf(hasSingleFailureContaining("spinning(\"1\" <from ints[0]>)"),
+                        hasSingleFailureContaining("timed out after 100 milliseconds")));
+    }
+
+    @RunWith(Theories.class)
+    public static class SeesItsThreadLocals {
+        static final ThreadLocal<String> transaction = new ThreadLocal<String>();
+
+        @DataPoints public static final int[] ints = { 1, 2 };
+
+        @Before public void begin() {
+            transaction.set("open");
+        }
+
+        @Theory(perCombinationTimeoutMillis = 5000) public void inTransaction(int x) {
+            assertThat(transaction.get(), is("open"));
+            assertFalse(Thread.currentThread().getName().startsWith("theories-watchdog"));
+        }
+    }
+
+    @Test public void runsCombinationsOnTheTheoryThread() {
+        assertThat(testResult(SeesItsThreadLocals.class), isSuccessful());
+    }
+
+    @RunWith(Theories.class)
+    public static class InterruptedOnlyOnce {
+        @DataPoints public static final int[] ints = { 1, 2 };
+
+        @Theory(perCombinationTimeoutMillis = 100) public void sleepy(int x) throws Exception {
+            if (x == 1) {
+                Thread.sleep(10000);
+            }
+        }
+    }
+
+    @Test public void leavesNoInterruptBehind() {
+        assertThat(testResult(InterruptedOnlyOnce.class), hasSingleFailureContaining("timed out"));
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @RunWith(Theories.class)
+    public static class FastEnough {
+        @DataPoints public static final int[] ints = { 1, 2, 3 };
+
+        @Theory(perCombinationTimeoutMillis = 5000) public void quick(int x) {
+            assertThat(x, is(not(0)));
+        }
+    }
+
+    @Test public void passesCombinationsWithinTheTimeout() {
+        assertThat(testResult(FastEnough.class), isSuccessful());
+    }
+}
@@ -0,0 +1,140 @@
+package org.junit.contrib.tests.theories.runner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.contrib.theories.ReportTheoryProgress;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.contrib.theories.TheoryProgress;
+import org.junit.contrib.theories.TheoryProgressListener;
+import org.junit.contrib.theories.suppliers.TestedOn;
+import org.junit.runner.RunWith;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class WithProgressReportingTest {
+    public static class RecordingListener implements TheoryProgressListener {
+        static List<TheoryProgress> reported = new ArrayList<TheoryProgress>();
+        static List<TheoryProgress> finished = new ArrayList<TheoryProgress>();
+
+        public void progress(TheoryProgress progress) {
+            reported.add(progress);
+        }
+
+        public void finished(TheoryProgress progress) {
+            finished.add(progress);
+        }
+    }
+
+    @RunWith(Theories.class)
+    @ReportTheoryProgress(value = RecordingListener.class, intervalMillis = 0)
+    public static class ReportedEveryTime {
+        @Theory public void evenSums(@TestedOn(ints = { 1, 2, 3, 4 }) int a, @TestedOn(ints = { 1, 2 }) int b) {
+            assumeTrue((a + b) % 2 == 0);
+        }
+    }
+
+    @Test public void reportsEachCombinationWhenTheIntervalIsZero() {
+        RecordingListener.reported.clear();
+        RecordingListener.finished.clear();
+
+        assertThat(testResult(ReportedEveryTime.class), isSuccessful());
+        assertThat(RecordingListener.reported.size(), is(8));
+        assertThat(RecordingListener.finished.size(), is(1));
+
+        TheoryProgress last = RecordingListener.finished.get(0);
+        assertThat(last.getTheory(), is("ReportedEveryTime.evenSums"));
+        assertThat(last.getCombinationsDone(), is(8L));
+        assertThat(last.getTotalCombinations(), is(8L));
+        assertThat(last.getRejectionRatio(), is(0.5));
+        assertThat(last.getEstimatedRemainingMillis(), is(0L));
+    }
+
+    @RunWith(Theories.class)
+    @ReportTheoryProgress(RecordingListener.class)
+    public static class FailingOnTwo {
+        @Theory public void notTwo(@TestedOn(ints = { 1, 2, 3 }) int a) {
+            assertThat(a, not(2));
+        }
+    }
+
+    @Test public void countsTheCombinationATheoryFailsWithAsDone() {
+        RecordingListener.finished.clear();
+
+        assertThat(testResult(FailingOnTwo.class), failureCountIs(1));
+
+        TheoryProgress last = RecordingListener.finished.get(0);
+        assertThat(last.getCombinationsDone(), is(2L));
+        assertThat(last.getCombinationsFailed(), is(1L));
+        assertThat(last.toString(), containsString("2/3 combinations"));
+        assertThat(last.toString(), containsString("rejected, 1 failed"));
+    }
+
+    @RunWith(Theories.class)
+    @ReportTheoryProgress(RecordingListener.class)
+    public static class ReportedRarely {
+        @Theory public void quick(@TestedOn(ints = { 1, 2, 3 }) int a) {
+        }
+    }
+
+    @Test public void reportsOnlyOnceTheIntervalHasPassed() {
+        RecordingListener.reported.clear();
+        RecordingListener.finished.clear();
+
+        assertThat(testResult(ReportedRarely.class), isSuccessful());
+        assertThat(RecordingListener.reported.size(), is(0));
+        assertThat(RecordingListener.finished.get(0).getCombinationsDone(), is(3L));
+    }
+
+    @RunWith(Theories.class)
+    public static class Unannotated {
+        @Theory public void quick(@TestedOn(ints = { 1, 2, 3 }) int a) {
+        }
+    }
+
+    @Test public void printsProgressToStandardErrorWhenAskedTo() {
+        PrintStream originalErr = System.err;
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        System.setProperty(Theories.PROGRESS_PROPERTY, "true");
+        System.setErr(new PrintStream(err, true));
+        try {
+            assertThat(testResult(Unannotated.class), isSuccessful());
+        } finally {
+            System.setErr(originalErr);
+            System.clearProperty(Theories.PROGRESS_PROPERTY);
+        }
+
+        assertThat(err.toString(), containsString("[theories] Unannotated.quick: 3/3 combinations"));
+    }
+
+    public static class NoDefaultConstructor extends RecordingListener {
+        public NoDefaultConstructor(String name) {
+        }
+    }
+
+    @RunWith(Theories.class)
+    @ReportTheoryProgress(NoDefaultConstructor.class)
+    public static class UnusableListener {
+        @Theory public void quick(@TestedOn(ints = { 1 }) int a) {
+        }
+    }
+
+    @Test public void rejectsListenersItCannotCreate() {
+        assertThat(testResult(UnusableListener.class), hasSingleFailureContaining("public no-argument constructor"));
+    }
+
+    @Test public void describesProgressOnOneLine() {
+        TheoryProgress progress = new TheoryProgress("Codec.roundTrips", 250, 25, 1000, 5000000000L);
+
+        assertThat(progress.toString(),
+                is("Codec.roundTrips: 250/1000 combinations, 50.0/s, 10.0% rejected, about 15s left"));
+    }
+}
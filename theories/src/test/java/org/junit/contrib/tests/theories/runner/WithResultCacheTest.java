@@ -0,0 +1,103 @@
+package org.junit.contrib.tests.theories.runner;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.contrib.theories.DataPoints;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.runner.RunWith;
+
+import static java.util.Arrays.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class WithResultCacheTest {
+    private static final String DIRECTORY = "target/theories-results-test";
+
+    @RunWith(Theories.class)
+    public static class FailsOnThree {
+        static final List<Integer> tried = new ArrayList<Integer>();
+
+        @DataPoints public static int[] ints;
+
+        @Theory public void notThree(int i) {
+            tried.add(i);
+            assertThat(i, not(3));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class Unserializable {
+        static int invocations;
+
+        @DataPoints public static Object[] objects = { new Object(), new Object() };
+
+        @Theory public void anything(Object o) {
+            invocations++;
+        }
+    }
+
+    @Before public void enableCache() {
+        System.setProperty(Theories.RESULT_CACHE_PROPERTY, "true");
+        System.setProperty(Theories.RESULT_CACHE_DIRECTORY_PROPERTY, DIRECTORY);
+        new File(DIRECTORY, FailsOnThree.class.getName() + "#notThree").delete();
+        FailsOnThree.ints = new int[] { 1, 2, 3 };
+        FailsOnThree.tried.clear();
+    }
+
+    @After public void disableCache() {
+        System.clearProperty(Theories.RESULT_CACHE_PROPERTY);
+        System.clearProperty(Theories.RESULT_CACHE_DIRECTORY_PROPERTY);
+    }
+
+    @Test public void skipsCombinationsThatPassedBefore() {
+        assertThat(testResult(FailsOnThree.class), hasSingleFailureContaining("notThree"));
+        FailsOnThree.tried.clear();
+
+        assertThat(testResult(FailsOnThree.class), hasSingleFailureContaining("notThree"));
+        assertThat(FailsOnThree.tried, is(asList(3)));
+    }
+
+    @Test public void runsCombinationsWithChangedValues() {
+        testResult(FailsOnThree.class);
+        FailsOnThree.ints = new int[] { 1, 4 };
+        FailsOnThree.tried.clear();
+
+        assertThat(testResult(FailsOnThree.class), isSuccessful());
+        assertThat(FailsOnThree.tried, is(asList(4)));
+    }
+
+    @Test public void passesTheoriesWhoseCombinationsAllPassedBefore() {
+        FailsOnThree.ints = new int[] { 1, 2 };
+        testResult(FailsOnThree.class);
+        FailsOnThree.tried.clear();
+
+        assertThat(testResult(FailsOnThree.class), isSuccessful());
+        assertTrue(FailsOnThree.tried.isEmpty());
+    }
+
+    @Test public void alwaysRunsCombinationsOfUnserializableValues() {
+        Unserializable.invocations = 0;
+
+        testResult(Unserializable.class);
+        testResult(Unserializable.class);
+
+        assertThat(Unserializable.invocations, is(4));
+    }
+
+    @Test public void runsEveryCombinationUnlessAskedNotTo() {
+        System.clearProperty(Theories.RESULT_CACHE_PROPERTY);
+
+        testResult(FailsOnThree.class);
+        testResult(FailsOnThree.class);
+
+        assertThat(FailsOnThree.tried.size(), is(6));
+    }
+}
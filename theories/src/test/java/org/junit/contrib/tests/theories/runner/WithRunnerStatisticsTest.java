@@ -0,0 +1,151 @@
+package org.junit.contrib.tests.theories.runner;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.contrib.theories.DataPoints;
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.ParameterSupplier;
+import org.junit.contrib.theories.ParametersSuppliedBy;
+import org.junit.contrib.theories.PotentialAssignment;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.contrib.theories.internal.LiveTheoryStatistics;
+import org.junit.contrib.theories.internal.RunnerStatistics;
+import org.junit.contrib.theories.suppliers.TestedOn;
+import org.junit.runner.RunWith;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.TestClass;
+
+import static java.util.Arrays.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class WithRunnerStatisticsTest {
+    @RunWith(Theories.class)
+    public static class Observed {
+        static final List<String> seen = new ArrayList<String>();
+
+        @Theory public void observes(@TestedOn(ints = { 1, 2, 3 }) int i) throws Exception {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(RunnerStatistics.OBJECT_NAME);
+
+            seen.add(server.getAttribute(name, "CurrentTheory")
+                    + " " + asList((String[]) server.getAttribute(name, "CurrentAssignment"))
+                    + " " + server.getAttribute(name, "CurrentTheoryCombinationsExecuted")
+                    + " " + server.getAttribute(name, "CurrentTheoryRejections"));
+            assumeTrue(i != 2);
+        }
+    }
+
+    public static class Described {
+        static final List<Thread> describingThreads = Collections.synchronizedList(new ArrayList<Thread>());
+
+        @Override public String toString() {
+            describingThreads.add(Thread.currentThread());
+            return "described";
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class ObservedFromAnotherThread {
+        static final List<String> seen = new ArrayList<String>();
+
+        @DataPoints public static Described[] values = { new Described() };
+
+        @Theory public void observes(Described value) throws Exception {
+            Thread client = new Thread() {
+                @Override public void run() {
+                    try {
+                        seen.add(asList((String[]) ManagementFactory.getPlatformMBeanServer().getAttribute(
+                                new ObjectName(RunnerStatistics.OBJECT_NAME), "CurrentAssignment")).toString());
+                    } catch (Exception e) {
+                        seen.add(e.toString());
+                    }
+                }
+            };
+            client.start();
+            client.join();
+        }
+    }
+
+    public static class IndescribableSupplier extends ParameterSupplier {
+        @Override public List<PotentialAssignment> getValueSources(ParameterSignature sig) {
+            return Collections.<PotentialAssignment>singletonList(new PotentialAssignment() {
+                @Override public Object getValue() {
+                    return "value";
+                }
+
+                @Override public String getDescription() {
+                    throw new IllegalStateException("no description");
+                }
+            });
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class ObservingIndescribable {
+        static final List<String> seen = new ArrayList<String>();
+
+        @Theory public void observes(@ParametersSuppliedBy(IndescribableSupplier.class) String value)
+                throws Exception {
+            seen.add(asList((String[]) ManagementFactory.getPlatformMBeanServer().getAttribute(
+                    new ObjectName(RunnerStatistics.OBJECT_NAME), "CurrentAssignment")).toString());
+        }
+    }
+
+    @After public void clearProperty() {
+        System.clearProperty(Theories.JMX_PROPERTY);
+    }
+
+    @Test public void exposesTheTheoryRunningThroughJmx() throws Exception {
+        System.setProperty(Theories.JMX_PROPERTY, "true");
+        Observed.seen.clear();
+
+        assertThat(testResult(Observed.class), isSuccessful());
+
+        assertThat(Observed.seen, is(asList(
+                "Observed.observes [\"1\" <from ints>] 0 0",
+                "Observed.observes [\"2\" <from ints>] 1 0",
+                "Observed.observes [\"3\" <from ints>] 2 1")));
+        ObjectName name = new ObjectName(RunnerStatistics.OBJECT_NAME);
+        assertNull(ManagementFactory.getPlatformMBeanServer().getAttribute(name, "CurrentTheory"));
+    }
+
+    @Test public void describesValuesOnTheThreadRunningTheTheory() throws Exception {
+        System.setProperty(Theories.JMX_PROPERTY, "true");
+        ObservedFromAnotherThread.seen.clear();
+        Described.describingThreads.clear();
+
+        assertThat(testResult(ObservedFromAnotherThread.class), isSuccessful());
+
+        assertThat(ObservedFromAnotherThread.seen, is(asList("[\"described\" <from values[0]>]")));
+        assertThat(Described.describingThreads, everyItem(sameInstance(Thread.currentThread())));
+    }
+
+    @Test public void runsTheoriesWhoseValuesCannotBeDescribed() throws Exception {
+        System.setProperty(Theories.JMX_PROPERTY, "true");
+        ObservingIndescribable.seen.clear();
+
+        assertThat(testResult(ObservingIndescribable.class), isSuccessful());
+
+        assertThat(ObservingIndescribable.seen, is(asList(
+                "[(could not describe values: java.lang.IllegalStateException: no description)]")));
+    }
+
+    @Test public void keepsNoStatisticsUnlessAskedTo() throws Exception {
+        FrameworkMethod theory = new FrameworkMethod(Observed.class.getMethod("observes", int.class));
+
+        assertSame(LiveTheoryStatistics.DISABLED, RunnerStatistics.startTheory(theory, new TestClass(Observed.class)));
+    }
+}
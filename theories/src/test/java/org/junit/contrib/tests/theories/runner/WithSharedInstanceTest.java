@@ -0,0 +1,64 @@
+package org.junit.contrib.tests.theories.runner;
+
+import org.junit.Test;
+import org.junit.contrib.theories.DataPoints;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.runner.RunWith;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class WithSharedInstanceTest {
+    @RunWith(Theories.class)
+    public static class SharesInstances {
+        static int instances;
+        static int invocations;
+
+        @DataPoints public static final int[] ints = { 1, 2, 3 };
+
+        private final int fromConstructor;
+
+        public SharesInstances(int fromConstructor) {
+            this.fromConstructor = fromConstructor;
+            instances++;
+        }
+
+        @Theory(instancePerCombination = false) public void sameInstanceForMethodParameters(int x, int y) {
+            assertThat(fromConstructor, is(not(0)));
+            invocations++;
+        }
+    }
+
+    @Test public void createsOneInstancePerConstructorAssignment() {
+        SharesInstances.instances = 0;
+        SharesInstances.invocations = 0;
+
+        assertThat(testResult(SharesInstances.class), isSuccessful());
+        assertThat(SharesInstances.instances, is(3));
+        assertThat(SharesInstances.invocations, is(27));
+    }
+
+    @RunWith(Theories.class)
+    public static class FreshInstances {
+        static int instances;
+
+        @DataPoints public static final int[] ints = { 1, 2, 3 };
+
+        public FreshInstances() {
+            instances++;
+        }
+
+        @Theory public void freshInstanceForEachCombination(int x, int y) {
+        }
+    }
+
+    @Test public void createsOneInstancePerCombinationByDefault() {
+        FreshInstances.instances = 0;
+
+        assertThat(testResult(FreshInstances.class), isSuccessful());
+        assertThat(FreshInstances.instances, is(9));
+    }
+}
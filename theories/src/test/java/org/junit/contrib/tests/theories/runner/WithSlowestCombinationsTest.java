@@ -0,0 +1,125 @@
+package org.junit.contrib.tests.theories.runner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.contrib.theories.DataPoints;
+import org.junit.contrib.theories.ReportTheoryProgress;
+import org.junit.contrib.theories.SlowestCombinations;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.contrib.theories.TheoryProgress;
+import org.junit.contrib.theories.TheoryProgressListener;
+import org.junit.runner.Description;
+import org.junit.runner.Request;
+import org.junit.runner.RunWith;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class WithSlowestCombinationsTest {
+    public static class RecordingListener implements TheoryProgressListener {
+        static final List<TheoryProgress> finished = new ArrayList<TheoryProgress>();
+
+        public void progress(TheoryProgress progress) {
+        }
+
+        public void finished(TheoryProgress progress) {
+            finished.add(progress);
+        }
+    }
+
+    @RunWith(Theories.class)
+    @ReportTheoryProgress(RecordingListener.class)
+    public static class OneSlowInput {
+        @DataPoints public static String[] inputs = { "tiny", "hugeInput", "small" };
+
+        @Theory public void parses(String input, boolean strict) throws InterruptedException {
+            if (input.equals("hugeInput")) {
+                Thread.sleep(strict ? 60 : 30);
+            }
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class Unlistened {
+        @DataPoints public static String[] inputs = { "tiny", "hugeInput" };
+
+        @Theory public void parses(String input) throws InterruptedException {
+            if (input.equals("hugeInput")) {
+                Thread.sleep(30);
+            }
+        }
+    }
+
+    @Before public void clearFinished() {
+        RecordingListener.finished.clear();
+    }
+
+    @After public void clearProperty() {
+        System.clearProperty(Theories.SLOWEST_COMBINATIONS_PROPERTY);
+    }
+
+    @Test public void reportsSlowestCombinationsOnceTheTheoryFinishes() {
+        System.setProperty(Theories.SLOWEST_COMBINATIONS_PROPERTY, "2");
+
+        SlowestCombinations slowest = slowestOfLastRun(OneSlowInput.class);
+
+        assertThat(slowest.size(), is(2));
+        assertThat(slowest.getCombination(0), is("parses(\"hugeInput\" <from inputs[1]>, \"true\" <from true>)"));
+        assertThat(slowest.getCombination(1), is("parses(\"hugeInput\" <from inputs[1]>, \"false\" <from false>)"));
+        assertTrue(slowest.getNanos(0) >= slowest.getNanos(1));
+        assertTrue(slowest.getNanos(1) >= 30000000L);
+    }
+
+    @Test public void reportsEachRunOnItsOwn() {
+        System.setProperty(Theories.SLOWEST_COMBINATIONS_PROPERTY, "3");
+
+        slowestOfLastRun(OneSlowInput.class);
+        SlowestCombinations slowest = slowestOfLastRun(OneSlowInput.class);
+
+        assertThat(slowest.size(), is(3));
+        assertThat(new HashSet<String>(slowest.getCombinations()).size(), is(3));
+    }
+
+    @Test public void leavesTheDescriptionAlone() {
+        System.setProperty(Theories.SLOWEST_COMBINATIONS_PROPERTY, "2");
+        Description theory = Request.aClass(OneSlowInput.class).getRunner().getDescription().getChildren().get(0);
+
+        assertThat(theory, is(Description.createTestDescription(OneSlowInput.class, "parses")));
+        assertThat(theory.getAnnotations().size(), is(1));
+    }
+
+    @Test public void printsSlowestCombinationsOfTheoriesWithoutListeners() {
+        System.setProperty(Theories.SLOWEST_COMBINATIONS_PROPERTY, "1");
+        PrintStream originalErr = System.err;
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(err, true));
+        try {
+            assertThat(testResult(Unlistened.class), isSuccessful());
+        } finally {
+            System.setErr(originalErr);
+        }
+
+        assertThat(err.toString(), containsString("[theories] Unlistened.parses, slowest combinations:"));
+        assertThat(err.toString(), containsString("ns parses(\"hugeInput\" <from inputs[1]>)"));
+        assertThat(err.toString(), not(containsString("tiny")));
+    }
+
+    @Test public void reportsNothingUnlessAskedTo() {
+        assertThat(slowestOfLastRun(OneSlowInput.class), sameInstance(SlowestCombinations.NONE));
+    }
+
+    private static SlowestCombinations slowestOfLastRun(Class<?> testClass) {
+        assertThat(testResult(testClass), isSuccessful());
+        return RecordingListener.finished.get(RecordingListener.finished.size() - 1).getSlowestCombinations();
+    }
+}
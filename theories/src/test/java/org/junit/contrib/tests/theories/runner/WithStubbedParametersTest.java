@@ -0,0 +1,85 @@
+package org.junit.contrib.tests.theories.runner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.contrib.theories.DataPoints;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.contrib.theories.suppliers.Stub;
+import org.junit.runner.RunWith;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class WithStubbedParametersTest {
+    public interface Directory {
+        String emailOf(String user);
+
+        int ageOf(String user);
+    }
+
+    @RunWith(Theories.class)
+    public static class CorrectedByAssumptions {
+        static List<String> emails = new ArrayList<String>();
+
+        @Theory public void answersWhatTheTheoryAssumes(@Stub Directory directory) {
+            emails.add(directory.emailOf("alice"));
+            assumeThat(directory.emailOf("alice"), is("alice@example.com"));
+            assumeThat(directory.ageOf("alice"), is(42));
+
+            assertThat(directory.emailOf("alice"), is("alice@example.com"));
+            assertThat(directory.ageOf("alice"), is(42));
+        }
+    }
+
+    @Test public void triesOnlyAsManyStubsAsThereAreCorrections() {
+        CorrectedByAssumptions.emails.clear();
+
+        assertThat(testResult(CorrectedByAssumptions.class), isSuccessful());
+        assertThat(CorrectedByAssumptions.emails.size(), is(3));
+        assertThat(CorrectedByAssumptions.emails.get(2), is("alice@example.com"));
+    }
+
+    @RunWith(Theories.class)
+    public static class ContradictoryAssumptions {
+        static int invocations;
+
+        @Theory public void cannotBeSatisfied(@Stub Directory directory) {
+            invocations++;
+            assumeThat(directory.emailOf("bob"), is("a"));
+            assumeThat(directory.emailOf("bob"), is("b"));
+        }
+    }
+
+    @Test public void stopsWhenCorrectionsGoRoundInCircles() {
+        ContradictoryAssumptions.invocations = 0;
+
+        assertThat(testResult(ContradictoryAssumptions.class),
+                hasSingleFailureContaining("Never found parameters that satisfied method assumptions"));
+        assertThat(ContradictoryAssumptions.invocations, is(3));
+    }
+
+    @RunWith(Theories.class)
+    public static class MixedWithDataPoints {
+        @DataPoints public static String[] users = { "alice", "bob" };
+
+        static int successes;
+
+        @Theory public void correctsEachStubSeparately(String user, @Stub Directory directory) {
+            assumeThat(directory.emailOf(user), is(user + "@example.com"));
+            successes++;
+        }
+    }
+
+    @Test public void correctsStubsWithinEachCombinationOfOtherParameters() {
+        MixedWithDataPoints.successes = 0;
+
+        assertThat(testResult(MixedWithDataPoints.class), isSuccessful());
+        assertThat(MixedWithDataPoints.successes, is(2));
+    }
+}
@@ -0,0 +1,168 @@
+package org.junit.contrib.tests.theories.runner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.contrib.theories.AfterTheory;
+import org.junit.contrib.theories.BeforeTheory;
+import org.junit.contrib.theories.DataPoints;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runner.RunWith;
+import org.junit.runners.model.Statement;
+
+import static java.util.Arrays.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class WithTheoryLifecycleTest {
+    static final List<String> events = new ArrayList<String>();
+
+    @RunWith(Theories.class)
+    public static class HasTheoryHooks {
+        @DataPoints public static final int[] ints = { 1, 2 };
+
+        @BeforeTheory public static void setUpTheory() {
+            events.add("beforeTheory");
+        }
+
+        @AfterTheory public static void tearDownTheory() {
+            events.add("afterTheory");
+        }
+
+        @Before public void setUpCombination() {
+            events.add("before");
+        }
+
+        @Theory public void theory(int x) {
+            events.add("theory " + x);
+        }
+    }
+
+    @Test public void theoryHooksRunOnceAroundAllCombinations() {
+        events.clear();
+
+        assertThat(testResult(HasTheoryHooks.class), isSuccessful());
+        assertEquals(
+                asList("beforeTheory", "before", "theory 1", "before", "theory 2", "afterTheory"),
+                events);
+    }
+
+    @RunWith(Theories.class)
+    public static class FailingTheoryWithHooks {
+        @DataPoints public static final int[] ints = { 1 };
+
+        @AfterTheory public static void tearDownTheory() {
+            events.add("afterTheory");
+        }
+
+        @Theory public void theory(int x) {
+            fail();
+        }
+    }
+
+    @Test public void afterTheoryRunsEvenIfTheoryFails() {
+        events.clear();
+
+        assertThat(testResult(FailingTheoryWithHooks.class), failureCountIs(1));
+        assertEquals(asList("afterTheory"), events);
+    }
+
+    @RunWith(Theories.class)
+    public static class MixesTheoriesAndTests {
+        @DataPoints public static final int[] ints = { 1 };
+
+        @BeforeTheory public static void setUpTheory() {
+            events.add("beforeTheory");
+        }
+
+        @AfterTheory public static void tearDownTheory() {
+            events.add("afterTheory");
+        }
+
+        @Theory public void theory(int x) {
+            events.add("theory " + x);
+        }
+
+        @Test public void test() {
+            events.add("test");
+        }
+    }
+
+    @Test public void theoryHooksRunOnlyAroundTheories() {
+        events.clear();
+
+        assertThat(testResult(MixesTheoriesAndTests.class), isSuccessful());
+        assertThat(events.size(), is(4));
+        assertThat(events.subList(events.indexOf("beforeTheory"), events.indexOf("afterTheory") + 1),
+                is(asList("beforeTheory", "theory 1", "afterTheory")));
+    }
+
+    @RunWith(Theories.class)
+    public static class BeforeTheoryMustBeStatic {
+        @BeforeTheory public void setUpTheory() {
+        }
+
+        @Theory public void theory(int x) {
+        }
+    }
+
+    @Test public void theoryHooksMustBeStatic() {
+        assertThat(testResult(BeforeTheoryMustBeStatic.class), hasSingleFailureContaining("should be static"));
+    }
+
+    public static class RecordingRule implements TestRule {
+        public Statement apply(final Statement base, Description description) {
+            return new Statement() {
+                @Override
+                public void evaluate() throws Throwable {
+                    events.add("rule");
+                    base.evaluate();
+                }
+            };
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class AppliesRulesOnce {
+        @DataPoints public static final int[] ints = { 1, 2, 3 };
+
+        @Rule public final RecordingRule rule = new RecordingRule();
+
+        @Theory(rulesPerCombination = false) public void theory(int x) {
+            events.add("theory " + x);
+        }
+    }
+
+    @Test public void rulesCanBeAppliedOnceAroundAllCombinations() {
+        events.clear();
+
+        assertThat(testResult(AppliesRulesOnce.class), isSuccessful());
+        assertEquals(asList("rule", "theory 1", "theory 2", "theory 3"), events);
+    }
+
+    @RunWith(Theories.class)
+    public static class AppliesRulesPerCombination {
+        @DataPoints public static final int[] ints = { 1, 2 };
+
+        @Rule public final RecordingRule rule = new RecordingRule();
+
+        @Theory public void theory(int x) {
+            events.add("theory " + x);
+        }
+    }
+
+    @Test public void rulesAreAppliedAroundEachCombinationByDefault() {
+        events.clear();
+
+        assertThat(testResult(AppliesRulesPerCombination.class), isSuccessful());
+        assertThat(events, is(asList("rule", "theory 1", "rule", "theory 2")));
+    }
+}
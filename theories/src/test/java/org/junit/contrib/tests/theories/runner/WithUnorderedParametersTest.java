@@ -0,0 +1,86 @@
+package org.junit.contrib.tests.theories.runner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.contrib.theories.DataPoints;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.contrib.theories.Unordered;
+import org.junit.contrib.theories.suppliers.TestedOn;
+import org.junit.runner.RunWith;
+
+import static java.util.Arrays.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class WithUnorderedParametersTest {
+    static final List<String> calls = new ArrayList<String>();
+
+    @RunWith(Theories.class)
+    public static class PairsOfInts {
+        @DataPoints public static final int[] ints = { 1, 2, 3 };
+
+        @Theory public void pairs(@Unordered int x, @Unordered int y) {
+            calls.add(x + "," + y);
+        }
+    }
+
+    @Test public void triesEachUnorderedPairOnce() {
+        calls.clear();
+
+        assertThat(testResult(PairsOfInts.class), isSuccessful());
+        assertEquals(asList("1,1", "1,2", "1,3", "2,2", "2,3", "3,3"), calls);
+    }
+
+    @RunWith(Theories.class)
+    public static class TriplesOfInts {
+        @DataPoints public static final int[] ints = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+
+        @Theory public void triples(@Unordered int x, @Unordered int y, @Unordered int z) {
+            calls.add(x + "," + y + "," + z);
+        }
+    }
+
+    @Test public void triesEachUnorderedTripleOnce() {
+        calls.clear();
+
+        assertThat(testResult(TriplesOfInts.class), isSuccessful());
+        assertThat(calls.size(), is(220));
+    }
+
+    @RunWith(Theories.class)
+    public static class MixedParameters {
+        @DataPoints public static final int[] ints = { 1, 2 };
+        @DataPoints public static final String[] strings = { "a", "b" };
+
+        @Theory public void mixed(@Unordered int x, @Unordered int y, String s, @Unordered String t) {
+            calls.add(x + "," + y + "," + s + "," + t);
+        }
+    }
+
+    @Test public void onlyAdjacentUnorderedParametersOfTheSameTypeAreReduced() {
+        calls.clear();
+
+        assertThat(testResult(MixedParameters.class), isSuccessful());
+        assertThat(calls.size(), is(3 * 2 * 2));
+    }
+
+    @RunWith(Theories.class)
+    public static class DifferentSources {
+        @Theory public void differentSources(@Unordered @TestedOn(ints = { 1, 2 }) int x,
+                @Unordered @TestedOn(ints = { 5, 6, 7 }) int y) {
+            calls.add(x + "," + y);
+        }
+    }
+
+    @Test public void triesEveryOrderOfParametersWithDifferentSources() {
+        calls.clear();
+
+        assertThat(testResult(DifferentSources.class), isSuccessful());
+        assertEquals(asList("1,5", "1,6", "1,7", "2,5", "2,6", "2,7"), calls);
+    }
+}
@@ -0,0 +1,158 @@
+package org.junit.contrib.tests.theories.suppliers;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.PotentialAssignment;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.contrib.theories.suppliers.DataPointsFrom;
+import org.junit.contrib.theories.suppliers.DataPointsFromSupplier;
+import org.junit.runner.RunWith;
+
+import static java.util.Arrays.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.junit.contrib.theories.suppliers.DataPointsFrom.Format.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class DataPointsFromSupplierTest {
+    private static final String LINES_FILE = "target/data-points-from/lines.txt";
+    private static final String RECORDS_FILE = "target/data-points-from/records.bin";
+
+    @BeforeClass public static void writeFiles() throws IOException {
+        write(LINES_FILE, "alpha\nbeta\r\n\ngamma".getBytes("UTF-8"));
+        write(RECORDS_FILE, new byte[] { 1, 2, 3, 4, 5, 6 });
+    }
+
+    private static void write(String name, byte[] contents) throws IOException {
+        File file = new File(name);
+        file.getParentFile().mkdirs();
+        FileOutputStream output = new FileOutputStream(file);
+        try {
+            output.write(contents);
+        } finally {
+            output.close();
+        }
+    }
+
+    public void lines(@DataPointsFrom(file = LINES_FILE) String line) {
+    }
+
+    public void utf16Lines(@DataPointsFrom(file = LINES_FILE, charset = "UTF-16") String line) {
+    }
+
+    public void latin1Lines(@DataPointsFrom(file = LINES_FILE, charset = "ISO-8859-1") String line) {
+    }
+
+    public void copiedRecords(@DataPointsFrom(file = RECORDS_FILE, format = FIXED_RECORDS, recordLength = 2) byte[] r) {
+    }
+
+    public void mappedRecords(
+            @DataPointsFrom(file = RECORDS_FILE, format = FIXED_RECORDS, recordLength = 2) ByteBuffer r) {
+    }
+
+    public void misalignedRecords(
+            @DataPointsFrom(file = RECORDS_FILE, format = FIXED_RECORDS, recordLength = 4) byte[] r) {
+    }
+
+    @Test public void suppliesEachLineWithoutItsTerminator() throws Exception {
+        List<PotentialAssignment> assignments = valueSources("lines", String.class);
+
+        assertEquals(asList("alpha", "beta", "", "gamma"), values(assignments));
+    }
+
+    @Test public void describesLinesByNumber() throws Exception {
+        List<PotentialAssignment> assignments = valueSources("lines", String.class);
+
+        assertThat(assignments.get(1).getDescription(), is("\"beta\" <from lines.txt line 2>"));
+    }
+
+    @Test public void decodesLinesInOtherAsciiCompatibleCharsets() throws Exception {
+        assertEquals(asList("alpha", "beta", "", "gamma"), values(valueSources("latin1Lines", String.class)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsCharsetsThatDoNotEncodeLineTerminatorsAsAscii() throws Exception {
+        valueSources("utf16Lines", String.class);
+    }
+
+    @Test public void suppliesCopiesOfRecordsForByteArrayParameters() throws Exception {
+        List<PotentialAssignment> assignments = valueSources("copiedRecords", byte[].class);
+
+        assertThat(assignments.size(), is(3));
+        assertArrayEquals(new byte[] { 3, 4 }, (byte[]) assignments.get(1).getValue());
+        assertThat(assignments.get(2).getDescription(), is("record 2 <from records.bin offset 4>"));
+    }
+
+    @Test public void suppliesReadOnlyViewsOfRecordsForOtherParameters() throws Exception {
+        ByteBuffer record = (ByteBuffer) valueSources("mappedRecords", ByteBuffer.class).get(2).getValue();
+
+        assertTrue(record.isReadOnly());
+        assertThat(record.remaining(), is(2));
+        assertThat(record.get(0), is((byte) 5));
+    }
+
+    @Test public void findsTheLinesOfAFileOnceForEachSignature() throws Exception {
+        DataPointsFromSupplier supplier = new DataPointsFromSupplier();
+        ParameterSignature sig = ParameterSignature.signatures(getClass().getMethod("lines", String.class)).get(0);
+
+        assertSame(supplier.getValueSources(sig), supplier.getValueSources(sig));
+    }
+
+    @Test public void findsTheLinesAgainOnceTheFileChanges() throws Exception {
+        DataPointsFromSupplier supplier = new DataPointsFromSupplier();
+        ParameterSignature sig = ParameterSignature.signatures(getClass().getMethod("lines", String.class)).get(0);
+        supplier.getValueSources(sig);
+
+        try {
+            write(LINES_FILE, "delta\nepsilon".getBytes("UTF-8"));
+            assertEquals(asList("delta", "epsilon"), values(supplier.getValueSources(sig)));
+        } finally {
+            writeFiles();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsFilesThatAreNotAWholeNumberOfRecords() throws Exception {
+        valueSources("misalignedRecords", byte[].class);
+    }
+
+    @RunWith(Theories.class)
+    public static class LinesTheory {
+        static List<String> seen = new ArrayList<String>();
+
+        @Theory public void seesEveryLine(@DataPointsFrom(file = LINES_FILE) String line) {
+            seen.add(line);
+        }
+    }
+
+    @Test public void runsTheoryOnceForEachLine() {
+        LinesTheory.seen.clear();
+
+        assertThat(testResult(LinesTheory.class), isSuccessful());
+        assertEquals(asList("alpha", "beta", "", "gamma"), LinesTheory.seen);
+    }
+
+    private List<PotentialAssignment> valueSources(String methodName, Class<?> parameterType) throws Exception {
+        Method method = getClass().getMethod(methodName, parameterType);
+        return new DataPointsFromSupplier().getValueSources(ParameterSignature.signatures(method).get(0));
+    }
+
+    private static List<Object> values(List<PotentialAssignment> assignments) throws Exception {
+        List<Object> values = new ArrayList<Object>();
+        for (PotentialAssignment each : assignments) {
+            values.add(each.getValue());
+        }
+        return values;
+    }
+}
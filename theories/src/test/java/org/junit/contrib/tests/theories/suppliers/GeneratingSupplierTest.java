@@ -0,0 +1,134 @@
+package org.junit.contrib.tests.theories.suppliers;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.ParameterSupplier;
+import org.junit.contrib.theories.PotentialAssignment;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.contrib.theories.suppliers.RandomEnums;
+import org.junit.contrib.theories.suppliers.RandomEnumsSupplier;
+import org.junit.contrib.theories.suppliers.RandomInts;
+import org.junit.contrib.theories.suppliers.RandomIntsSupplier;
+import org.junit.contrib.theories.suppliers.RandomLists;
+import org.junit.contrib.theories.suppliers.RandomListsSupplier;
+import org.junit.contrib.theories.suppliers.RandomLongs;
+import org.junit.contrib.theories.suppliers.RandomLongsSupplier;
+import org.junit.contrib.theories.suppliers.RandomStrings;
+import org.junit.contrib.theories.suppliers.RandomStringsSupplier;
+import org.junit.runner.RunWith;
+
+import static java.util.Arrays.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class GeneratingSupplierTest {
+    public enum Suit { HEARTS, SPADES, CLUBS, DIAMONDS }
+
+    public void ints(@RandomInts(min = -5, max = 5, samples = 200, seed = 42) int x) {
+    }
+
+    public void otherSeed(@RandomInts(min = -5, max = 5, samples = 200, seed = 43) int x) {
+    }
+
+    public void longs(@RandomLongs(min = Long.MAX_VALUE - 2, samples = 50) long x) {
+    }
+
+    public void strings(@RandomStrings(alphabet = "ab", minLength = 2, maxLength = 4) String s) {
+    }
+
+    public void lists(@RandomLists(minSize = 1, maxSize = 3, samples = 20) List<Suit> l) {
+    }
+
+    public void enums(@RandomEnums(samples = 50) Suit s) {
+    }
+
+    public void upsideDown(@RandomInts(min = 1, max = 0) int x) {
+    }
+
+    @Test public void generatesIntsWithinBounds() throws Throwable {
+        for (Object each : values(new RandomIntsSupplier(), "ints", int.class)) {
+            assertTrue((Integer) each >= -5 && (Integer) each <= 5);
+        }
+    }
+
+    @Test public void generatesTheSameValuesFromTheSameSeed() throws Throwable {
+        assertEquals(values(new RandomIntsSupplier(), "ints", int.class),
+                values(new RandomIntsSupplier(), "ints", int.class));
+        assertThat(values(new RandomIntsSupplier(), "ints", int.class),
+                not(values(new RandomIntsSupplier(), "otherSeed", int.class)));
+    }
+
+    @Test public void generatesEachValueAgainOnDemand() throws Throwable {
+        PotentialAssignment sample = valueSources(new RandomIntsSupplier(), "ints", int.class).get(7);
+
+        assertEquals(sample.getValue(), sample.getValue());
+        assertThat(sample.getDescription(), is("\"" + sample.getValue() + "\" <from ints[7] with seed 42>"));
+    }
+
+    @Test public void generatesLongsAtTheEdgeOfTheirRange() throws Throwable {
+        for (Object each : values(new RandomLongsSupplier(), "longs", long.class)) {
+            assertTrue((Long) each >= Long.MAX_VALUE - 2);
+        }
+    }
+
+    @Test public void generatesStringsOverTheAlphabet() throws Throwable {
+        for (Object each : values(new RandomStringsSupplier(), "strings", String.class)) {
+            assertTrue(((String) each).matches("[ab]{2,4}"));
+        }
+    }
+
+    @Test public void generatesListsOfBoundedSize() throws Throwable {
+        for (Object each : values(new RandomListsSupplier(), "lists", List.class)) {
+            List<?> list = (List<?>) each;
+            assertTrue(list.size() >= 1 && list.size() <= 3);
+            assertThat(list.get(0), instanceOf(Suit.class));
+        }
+    }
+
+    @Test public void generatesEnumConstants() throws Throwable {
+        assertTrue(values(new RandomEnumsSupplier(), "enums", Suit.class).containsAll(asList(Suit.values())));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsMinGreaterThanMax() throws Throwable {
+        valueSources(new RandomIntsSupplier(), "upsideDown", int.class);
+    }
+
+    @RunWith(Theories.class)
+    public static class ManySamples {
+        static int invocations;
+
+        @Theory public void holds(@RandomInts(samples = 10000) int x, @RandomEnums(samples = 2) Suit s) {
+            invocations++;
+        }
+    }
+
+    @Test public void runsTheoryOnceForEachSample() {
+        ManySamples.invocations = 0;
+
+        assertThat(testResult(ManySamples.class), isSuccessful());
+        assertThat(ManySamples.invocations, is(20000));
+    }
+
+    private List<PotentialAssignment> valueSources(ParameterSupplier supplier, String methodName,
+            Class<?> parameterType) throws Throwable {
+        Method method = getClass().getMethod(methodName, parameterType);
+        return supplier.getValueSources(ParameterSignature.signatures(method).get(0));
+    }
+
+    private List<Object> values(ParameterSupplier supplier, String methodName, Class<?> parameterType)
+            throws Throwable {
+        List<Object> values = new ArrayList<Object>();
+        for (PotentialAssignment each : valueSources(supplier, methodName, parameterType)) {
+            values.add(each.getValue());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,167 @@
+package org.junit.contrib.tests.theories.suppliers;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.PotentialAssignment;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.contrib.theories.suppliers.TestedOnDoubleRange;
+import org.junit.contrib.theories.suppliers.TestedOnRange;
+import org.junit.contrib.theories.suppliers.TestedOnRangeSupplier;
+import org.junit.runner.RunWith;
+
+import static java.util.Arrays.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class TestedOnRangeSupplierTest {
+    public void ints(@TestedOnRange(from = 1, to = 10, step = 3) int x) {
+    }
+
+    public void longs(@TestedOnRange(from = 4000000000L, to = 3999999998L, step = -1) long x) {
+    }
+
+    public void longsBeyondDoublePrecision(
+            @TestedOnRange(from = 9007199254740993L, to = 9007199254740997L, step = 2) long x) {
+    }
+
+    public void everyLong(@TestedOnRange(from = Long.MIN_VALUE, to = Long.MAX_VALUE, step = 1L << 62) long x) {
+    }
+
+    public void tooManyLongs(@TestedOnRange(from = Long.MIN_VALUE, to = Long.MAX_VALUE) long x) {
+    }
+
+    public void doubles(@TestedOnDoubleRange(from = 0, to = 1, step = 0.25) double x) {
+    }
+
+    public void tenths(@TestedOnDoubleRange(from = 0, to = 0.3, step = 0.1) double x) {
+    }
+
+    public void unbounded(@TestedOnDoubleRange(from = 0, to = Double.NaN) double x) {
+    }
+
+    public void empty(@TestedOnRange(from = 1, to = 0) int x) {
+    }
+
+    public void intsBeyondInt(@TestedOnRange(from = 0, to = 1L << 32) int x) {
+    }
+
+    public void zeroStep(@TestedOnRange(from = 0, to = 1, step = 0) long x) {
+    }
+
+    public void zeroDoubleStep(@TestedOnDoubleRange(from = 0, to = 1, step = 0) double x) {
+    }
+
+    public void wholeDoubles(@TestedOnRange(from = 0, to = 1) double x) {
+    }
+
+    public void strings(@TestedOnRange(from = 0, to = 1) String x) {
+    }
+
+    @Test public void suppliesIntsUpToAndIncludingTheUpperBound() throws Exception {
+        assertEquals(asList((Object) 1, 4, 7, 10), values(valueSources("ints", int.class)));
+    }
+
+    @Test public void suppliesLongsCountingDown() throws Exception {
+        assertEquals(asList((Object) 4000000000L, 3999999999L, 3999999998L), values(valueSources("longs", long.class)));
+    }
+
+    @Test public void suppliesLongsExactlyBeyondDoublePrecision() throws Exception {
+        assertEquals(asList((Object) 9007199254740993L, 9007199254740995L, 9007199254740997L),
+                values(valueSources("longsBeyondDoublePrecision", long.class)));
+    }
+
+    @Test public void countsRangesOverEveryLongExactly() throws Exception {
+        assertEquals(asList((Object) Long.MIN_VALUE, -(1L << 62), 0L, 1L << 62),
+                values(valueSources("everyLong", long.class)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsRangesWithTooManyValues() throws Exception {
+        valueSources("tooManyLongs", long.class);
+    }
+
+    @Test public void suppliesDoubles() throws Exception {
+        assertEquals(asList((Object) 0.0, 0.25, 0.5, 0.75, 1.0), values(valueSources("doubles", double.class)));
+    }
+
+    @Test public void includesAnUpperBoundMissedOnlyByRounding() throws Exception {
+        List<Object> values = values(valueSources("tenths", double.class));
+
+        assertThat(values.size(), is(4));
+        assertEquals(0.3, (Double) values.get(3), 1e-15);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsBoundsThatAreNotFinite() throws Exception {
+        valueSources("unbounded", double.class);
+    }
+
+    @Test public void suppliesNothingForARangeThatRunsAwayFromItsUpperBound() throws Exception {
+        assertThat(valueSources("empty", int.class).size(), is(0));
+    }
+
+    @Test public void describesValuesByPosition() throws Exception {
+        assertThat(valueSources("ints", int.class).get(2).getDescription(), is("\"7\" <from range[2]>"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsIntRangesBeyondTheInts() throws Exception {
+        valueSources("intsBeyondInt", int.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsZeroStep() throws Exception {
+        valueSources("zeroStep", long.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsZeroDoubleStep() throws Exception {
+        valueSources("zeroDoubleStep", double.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsWholeRangesForDoubles() throws Exception {
+        valueSources("wholeDoubles", double.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnsupportedParameterTypes() throws Exception {
+        valueSources("strings", String.class);
+    }
+
+    @RunWith(Theories.class)
+    public static class WideRange {
+        static int invocations;
+
+        @Theory public void everyValue(@TestedOnRange(from = 0, to = 9999) int x) {
+            invocations++;
+        }
+    }
+
+    @Test public void runsTheoryOnceForEachValueOfAWideRange() {
+        WideRange.invocations = 0;
+
+        assertThat(testResult(WideRange.class), isSuccessful());
+        assertThat(WideRange.invocations, is(10000));
+    }
+
+    private List<PotentialAssignment> valueSources(String methodName, Class<?> parameterType) throws Exception {
+        Method method = getClass().getMethod(methodName, parameterType);
+        return new TestedOnRangeSupplier().getValueSources(ParameterSignature.signatures(method).get(0));
+    }
+
+    private static List<Object> values(List<PotentialAssignment> assignments) throws Exception {
+        List<Object> values = new ArrayList<Object>();
+        for (PotentialAssignment each : assignments) {
+            values.add(each.getValue());
+        }
+        return values;
+    }
+}